@@ -0,0 +1,26 @@
+package com.dailog.api.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * JPQL에서 MySQL 전문 검색(MATCH ... AGAINST)을 사용하기 위한 함수 등록
+ * META-INF/services/org.hibernate.boot.model.FunctionContributor로 등록
+ */
+public class MySqlFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Double> doubleType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.DOUBLE);
+
+        //컬럼 목록은 FULLTEXT 인덱스의 컬럼 구성과 정확히 일치해야 한다.
+        functionContributions.getFunctionRegistry()
+                .registerPattern("match_against", "match(?1) against(?2 in boolean mode)", doubleType);
+        functionContributions.getFunctionRegistry()
+                .registerPattern("match_against2", "match(?1, ?2) against(?3 in boolean mode)", doubleType);
+    }
+}
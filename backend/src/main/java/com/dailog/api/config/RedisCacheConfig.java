@@ -1,14 +1,20 @@
 package com.dailog.api.config;
 
+import com.dailog.api.config.cache.CacheNames;
+import com.dailog.api.config.cache.TwoLevelCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
-import org.springframework.cache.CacheManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -17,7 +23,11 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 public class RedisCacheConfig {
 
     @Bean
-    public CacheManager postViewsCacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                             RedisTemplate<String, Object> redisTemplate,
+                                             MeterRegistry meterRegistry,
+                                             @Value("${cache.local.ttl-seconds:30}") long localTtlSeconds,
+                                             @Value("${cache.local.maximum-size:10000}") long localMaximumSize) {
 
         RedisCacheConfiguration redisCacheConfiguration = RedisCacheConfiguration
                 .defaultCacheConfig()
@@ -26,18 +36,35 @@ public class RedisCacheConfig {
                         SerializationPair.fromSerializer(
                                 new StringRedisSerializer())
                 )
-                //Redis에 Value를 저장할 때 JSON으로 직렬화
+                //Redis에 Value를 저장할 때 타입 정보를 포함한 JSON으로 직렬화 -> 로컬 캐시와 같은 타입으로 복원
                 .serializeValuesWith(
                         SerializationPair.fromSerializer(
-                                new Jackson2JsonRedisSerializer<>(Object.class))
+                                new GenericJackson2JsonRedisSerializer())
                 )
                 //데이터의 만료기간
                 .entryTtl(Duration.ofDays(1L));
 
-        return RedisCacheManager
+        RedisCacheManager redisCacheManager = RedisCacheManager
                 .RedisCacheManagerBuilder
                 .fromConnectionFactory(redisConnectionFactory)
                 .cacheDefaults(redisCacheConfiguration)
+                //조회수 DB 반영 전후로 캐시된 값이 어긋나는 시간을 제한
+                .withCacheConfiguration(CacheNames.POST_DETAIL,
+                        redisCacheConfiguration.entryTtl(Duration.ofMinutes(10L)))
                 .build();
+
+        //로컬 캐시는 짧은 TTL로 두어 무효화 메시지가 유실되더라도 오래 남지 않도록 한다.
+        return new TwoLevelCacheManager(redisCacheManager, redisTemplate, meterRegistry,
+                Duration.ofSeconds(localTtlSeconds), localMaximumSize);
+    }
+
+    //다른 인스턴스의 캐시 변경을 구독해서 로컬 캐시를 무효화
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory redisConnectionFactory, TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+        return container;
     }
 }
@@ -1,15 +1,33 @@
 package com.dailog.api.config;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class RestTemplateConfig {
 
+    //JDK HttpClient는 keep-alive 커넥션을 풀로 재사용한다.
+    //타임아웃이 없으면 증권사 API가 느려질 때 호출한 스레드가 계속 묶여 있게 된다.
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        return builder.build();
+    public RestTemplate restTemplate(RestTemplateBuilder builder,
+                                     @Value("${http.client.connect-timeout-ms:2000}") long connectTimeoutMillis,
+                                     @Value("${http.client.read-timeout-ms:5000}") long readTimeoutMillis) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+
+        return builder
+                .requestFactory(() -> requestFactory)
+                .build();
     }
-}
\ No newline at end of file
+}
@@ -86,6 +86,9 @@ public class SecurityConfig {
                                 "/api/comments/**/delete/anonymous").permitAll()
                         .requestMatchers(HttpMethod.PATCH, "/api/comments/**/anonymous").permitAll()
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                        //로드밸런서, 컨테이너 헬스 체크는 인증 없이 허용
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .anyRequest().authenticated())
 
                 .cors(corsCustomizer -> corsCustomizer.configurationSource(request -> {
@@ -0,0 +1,46 @@
+package com.dailog.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class StockConfig {
+
+    //증권사 API를 기다리는 작업은 Tomcat 스레드가 아닌 별도 스레드 풀에서 처리
+    //-> 증권사 API가 느려져도 게시글, 댓글 요청을 처리할 스레드가 남는다.
+    @Bean
+    public ThreadPoolTaskExecutor stockExecutor(@Value("${stock.executor.core-size:16}") int coreSize,
+                                                @Value("${stock.executor.max-size:32}") int maxSize,
+                                                @Value("${stock.executor.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("stock-");
+        return executor;
+    }
+
+    //SSE 전송 전용 스레드 풀, 응답을 받지 않는 클라이언트가 있어도 stockExecutor의 증권사 API 처리를 막지 않는다.
+    @Bean
+    public ThreadPoolTaskExecutor stockStreamExecutor(@Value("${stock.stream.send-threads:4}") int sendThreads,
+                                                      @Value("${stock.stream.send-queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(sendThreads);
+        executor.setMaxPoolSize(sendThreads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("stock-stream-");
+        return executor;
+    }
+
+    //Executor 빈이 하나라도 있으면 Spring Boot가 applicationTaskExecutor를 만들지 않으므로 직접 등록
+    //-> MVC 비동기 처리와 @Async는 spring.task.execution 설정을 따르는 기본 풀을 그대로 사용한다.
+    @Lazy
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+}
@@ -0,0 +1,11 @@
+package com.dailog.api.config.cache;
+
+/**
+ * 로컬 캐시 무효화를 다른 인스턴스에 전파
+ */
+public interface CacheInvalidationPublisher {
+
+    void publishEvict(String cacheName, String key);
+
+    void publishClear(String cacheName);
+}
@@ -0,0 +1,12 @@
+package com.dailog.api.config.cache;
+
+/**
+ * 캐시 이름 모음
+ */
+public final class CacheNames {
+
+    public static final String POST_DETAIL = "postDetail";  //게시글 상세 (조회수 제외)
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,146 @@
+package com.dailog.api.config.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.Callable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * 로컬 메모리(L1) + Redis(L2) 2단계 캐시
+ * 조회는 L1 -> L2 순서로, 변경은 L2에 반영한 뒤 다른 인스턴스의 L1을 무효화
+ * put은 캐시 미스 후 채우기(read-through)로 보고 무효화 메시지를 보내지 않는다.
+ * -> 데이터를 변경할 때는 evict(또는 clear)를 호출해야 다른 인스턴스의 L1도 비워진다.
+ */
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> localCache;
+    private final Cache redisCache;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter misses;
+
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> localCache,
+                         Cache redisCache,
+                         CacheInvalidationPublisher invalidationPublisher,
+                         MeterRegistry meterRegistry) {
+        this.name = name;
+        this.localCache = localCache;
+        this.redisCache = redisCache;
+        this.invalidationPublisher = invalidationPublisher;
+        this.localHits = requestCounter(meterRegistry, name, "local_hit");
+        this.redisHits = requestCounter(meterRegistry, name, "redis_hit");
+        this.misses = requestCounter(meterRegistry, name, "miss");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = toLocalKey(key);
+        ValueWrapper localValue = localCache.getIfPresent(localKey);
+        if (localValue != null) {
+            localHits.increment();
+            return localValue;
+        }
+
+        ValueWrapper redisValue = redisCache.get(key);
+        if (redisValue == null) {
+            misses.increment();
+            return null;
+        }
+
+        redisHits.increment();
+        localCache.put(localKey, redisValue);
+        return redisValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper valueWrapper = get(key);
+        Object value = valueWrapper == null ? null : valueWrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper valueWrapper = get(key);
+        if (valueWrapper != null) {
+            return (T) valueWrapper.get();
+        }
+
+        //Redis 캐시가 키 단위로 동기화해서 값을 적재
+        T value = redisCache.get(key, valueLoader);
+        localCache.put(toLocalKey(key), new SimpleValueWrapper(value));
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = toLocalKey(key);
+        redisCache.put(key, value);
+        localCache.put(localKey, new SimpleValueWrapper(value));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        String localKey = toLocalKey(key);
+        ValueWrapper existingValue = redisCache.putIfAbsent(key, value);
+        localCache.invalidate(localKey);
+        return existingValue;
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = toLocalKey(key);
+        redisCache.evict(key);
+        localCache.invalidate(localKey);
+        invalidationPublisher.publishEvict(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+        redisCache.clear();
+        localCache.invalidateAll();
+        invalidationPublisher.publishClear(name);
+    }
+
+    //다른 인스턴스에서 변경이 발생했을 때 L1만 비운다.
+    void evictLocal(String localKey) {
+        localCache.invalidate(localKey);
+    }
+
+    void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    //Redis 캐시 키와 동일하게 문자열로 변환해서 인스턴스 간 무효화 메시지로 전달
+    private String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder("cache.two-level.requests")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
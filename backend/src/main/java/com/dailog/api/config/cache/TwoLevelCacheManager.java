@@ -0,0 +1,105 @@
+package com.dailog.api.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * {@link TwoLevelCache}를 만들어 주는 CacheManager
+ * 트랜잭션 안에서의 put/evict는 커밋 이후에 반영된다.
+ * Redis pub/sub으로 인스턴스 간 로컬 캐시 무효화 메시지를 주고받는다.
+ * 메시지 형식: {인스턴스 ID}|{캐시 이름}[|{키}] (키가 없으면 캐시 전체 무효화)
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager
+        implements CacheInvalidationPublisher, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+    private static final String DELIMITER = "|";
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    private final RedisCacheManager redisCacheManager;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Duration localTtl;
+    private final long localMaximumSize;
+
+    public TwoLevelCacheManager(RedisCacheManager redisCacheManager, RedisTemplate<String, Object> redisTemplate,
+                                MeterRegistry meterRegistry, Duration localTtl, long localMaximumSize) {
+        this.redisCacheManager = redisCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.localTtl = localTtl;
+        this.localMaximumSize = localMaximumSize;
+        redisCacheManager.initializeCaches();
+        setTransactionAware(true);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    private TwoLevelCache createCache(String name) {
+        com.github.benmanes.caffeine.cache.Cache<String, Cache.ValueWrapper> localCache = Caffeine.newBuilder()
+                .expireAfterWrite(localTtl)
+                .maximumSize(localMaximumSize)
+                .build();
+        return new TwoLevelCache(name, localCache, redisCacheManager.getCache(name), this, meterRegistry);
+    }
+
+    @Override
+    public void publishEvict(String cacheName, String key) {
+        redisTemplate.convertAndSend(INVALIDATION_CHANNEL, instanceId + DELIMITER + cacheName + DELIMITER + key);
+    }
+
+    @Override
+    public void publishClear(String cacheName) {
+        redisTemplate.convertAndSend(INVALIDATION_CHANNEL, instanceId + DELIMITER + cacheName);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (!(body instanceof String invalidation)) {
+            return;
+        }
+
+        String[] split = invalidation.split("\\" + DELIMITER, 3);
+        //자신이 보낸 메시지는 이미 반영했으므로 무시
+        if (split.length < 2 || split[0].equals(instanceId)) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(split[1]);
+        if (cache == null) {
+            return;
+        }
+
+        if (split.length == 2) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(split[2]);
+        }
+        log.debug("Local cache invalidated: {}", invalidation);
+    }
+}
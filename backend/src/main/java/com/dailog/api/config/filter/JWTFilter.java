@@ -8,6 +8,7 @@ import com.dailog.api.domain.enums.Role;
 import com.dailog.api.request.member.MemberAuthRequest;
 import com.dailog.api.request.oAuth2.CustomOAuth2User;
 import com.dailog.api.request.oAuth2.MemberOAuth2Request;
+import com.dailog.api.util.JWTClaims;
 import com.dailog.api.util.JWTUtil;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
@@ -51,9 +52,10 @@ public class JWTFilter extends OncePerRequestFilter {
 
         access = access.substring("Bearer".length()).trim();
 
-        //token 만료 여부 확인 -> 만료되면 401 응답
+        //token 파싱 및 만료 여부 확인 -> 만료되면 401 응답
+        JWTClaims claims;
         try {
-            jwtUtil.isExpired(access);
+            claims = jwtUtil.parse(access);
         } catch (ExpiredJwtException e) {
             handleException(response, "Access token expired", SC_UNAUTHORIZED);
             return;
@@ -63,20 +65,20 @@ public class JWTFilter extends OncePerRequestFilter {
             return;
         }
 
-        boolean isNotAccessToken = !jwtUtil.getCategory(access).equals("access");
+        boolean isNotAccessToken = !"access".equals(claims.getCategory());
         if (isNotAccessToken) {
             handleException(response, "Invalid access token", SC_UNAUTHORIZED);
             return;
         }
 
-        String username = jwtUtil.getUsername(access);
-        String roleString = jwtUtil.getRole(access);
+        String username = claims.getUsername();
+        String roleString = claims.getRole();
         Role role = Role.valueOf(roleString);
-        Boolean oAuth2Login = jwtUtil.isOAuth2Login(access);
+        Boolean oAuth2Login = claims.getOAuth2Login();
 
         Authentication authToken;
         if (oAuth2Login) {
-            String provider = jwtUtil.getProvider(access);
+            String provider = claims.getProvider();
 
             MemberOAuth2Request oAuth2Request = MemberOAuth2Request.builder()
                     .username(username)
@@ -131,11 +131,18 @@ public class PostController {
     //    return postService.getList(postPageRequest);
     //}
 
-    @GetMapping(value = "/api/posts", params = {"searchDateType", "searchType", "searchQuery"})
+    @GetMapping(value = "/api/posts", params = {"searchDateType", "searchType", "searchQuery", "!cursor"})
     public PagingResponse<PostListResponse> getSearchList(PostSearch postSearch, PostPageRequest postPageRequest) {
         return postService.getList(postSearch, postPageRequest);
     }
 
+    //cursor 파라미터가 있으면 커서 기반으로 조회 (빈 값이면 첫 페이지), 검색 조건은 생략 가능
+    @GetMapping(value = "/api/posts", params = "cursor")
+    public PagingResponse<PostListResponse> getSearchListByCursor(PostSearch postSearch,
+                                                                  PostPageRequest postPageRequest) {
+        return postService.getListByCursor(postSearch, postPageRequest);
+    }
+
     private String getUsernameFromPrincipal(Object principal) {
         if (principal instanceof CustomUserDetails) {
             return ((CustomUserDetails) principal).getUsername();
@@ -1,22 +1,44 @@
 package com.dailog.api.controller;
 
+import com.dailog.api.exception.stock.StockRateLimited;
 import com.dailog.api.response.stock.StockDetail;
 import com.dailog.api.response.stock.StockInfo;
+import com.dailog.api.response.stock.IndicatorSeries;
 import com.dailog.api.response.stock.StockChart;
+import com.dailog.api.response.stock.StockChartColumns;
+import com.dailog.api.response.stock.StockQuoteResult;
 import com.dailog.api.response.stock.StockSearch;
 import com.dailog.api.service.StockService;
+import com.dailog.api.service.stock.StaleData;
+import com.dailog.api.service.stock.StockIndicatorService;
+import com.dailog.api.service.stock.StockQuoteBatch;
+import com.dailog.api.service.stock.StockQuoteStreamer;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequiredArgsConstructor
 public class StockController {
 
+    private static final String STALE_HEADER = "X-Stock-Stale";
+    private static final String LOADED_AT_HEADER = "X-Stock-Loaded-At";
+
     private final StockService stockService;
+    private final StockQuoteStreamer stockQuoteStreamer;
+    private final StockQuoteBatch stockQuoteBatch;
+    private final StockIndicatorService stockIndicatorService;
+    private final ThreadPoolTaskExecutor stockExecutor;
 
     @GetMapping("/api/stock/token")
     public void getAccessToken() {
@@ -24,30 +46,99 @@ public class StockController {
     }
 
     @GetMapping("/api/stock/{ticker}")
-    public StockDetail getStockDetail(@PathVariable("ticker") String ticker) {
-        return stockService.getStockDetail(ticker);
+    public CompletableFuture<ResponseEntity<StockDetail>> getStockDetail(@PathVariable("ticker") String ticker) {
+        return async(() -> stockService.getStockDetail(ticker));
+    }
+
+    //여러 종목 현재가 (tickers=AAPL,MSFT,...), 실패한 종목은 error로 응답
+    @GetMapping("/api/stock/quotes")
+    public CompletableFuture<List<StockQuoteResult>> getStockQuotes(@RequestParam List<String> tickers) {
+        return stockQuoteBatch.getQuotes(tickers);
+    }
+
+    //현재가 변경을 SSE로 전송 (이벤트 이름: quote)
+    @GetMapping(value = "/api/stock/{ticker}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStockDetail(@PathVariable("ticker") String ticker) {
+        return stockQuoteStreamer.subscribe(ticker);
     }
 
     @GetMapping("/api/stock/{ticker}/info")
-    public StockInfo getStockInfo(@PathVariable("ticker") String ticker) {
-        return stockService.getStockInfo(ticker);
+    public CompletableFuture<ResponseEntity<StockInfo>> getStockInfo(@PathVariable("ticker") String ticker) {
+        return async(() -> stockService.getStockInfo(ticker));
     }
 
     @GetMapping("/api/stock/{ticker}/price/history")
-    public List<StockChart> getStockPriceHistory(@PathVariable("ticker") String ticker,
-                                                 @RequestParam String dateType,
-                                                 @RequestParam(defaultValue = "") String searchDate) {
-        return stockService.getStockHistory(ticker, dateType, searchDate);
+    public CompletableFuture<ResponseEntity<List<StockChart>>> getStockPriceHistory(
+            @PathVariable("ticker") String ticker,
+            @RequestParam String dateType,
+            @RequestParam(defaultValue = "") String searchDate) {
+        return async(() -> stockService.getStockHistory(ticker, dateType, searchDate));
+    }
+
+    //format=columnar: 봉마다 객체를 만들지 않고 필드별 숫자 배열로 응답
+    @GetMapping(value = "/api/stock/{ticker}/price/history", params = "format=columnar")
+    public CompletableFuture<ResponseEntity<StockChartColumns>> getStockPriceHistoryColumns(
+            @PathVariable("ticker") String ticker,
+            @RequestParam String dateType,
+            @RequestParam(defaultValue = "") String searchDate) {
+        return async(() -> stockService.getStockHistorySeries(ticker, dateType, searchDate).getColumns());
     }
 
     @GetMapping("/api/stock/{ticker}/price/minutes")
-    public List<StockChart> getStockPriceByMinutes(@PathVariable("ticker") String ticker,
-                                                   @RequestParam(defaultValue = "5") String intervalMinutes) {
-        return stockService.getStockPriceByMinutes(ticker, intervalMinutes);
+    public CompletableFuture<ResponseEntity<List<StockChart>>> getStockPriceByMinutes(
+            @PathVariable("ticker") String ticker,
+            @RequestParam(defaultValue = "5") String intervalMinutes) {
+        return async(() -> stockService.getStockPriceByMinutes(ticker, intervalMinutes));
+    }
+
+    @GetMapping(value = "/api/stock/{ticker}/price/minutes", params = "format=columnar")
+    public CompletableFuture<ResponseEntity<StockChartColumns>> getStockPriceByMinutesColumns(
+            @PathVariable("ticker") String ticker,
+            @RequestParam(defaultValue = "5") String intervalMinutes) {
+        return async(() -> stockService.getMinuteSeries(ticker, intervalMinutes).getColumns());
+    }
+
+    //기술적 지표 (type: SMA, EMA, RSI, VWAP, BOLLINGER)
+    @GetMapping("/api/stock/{ticker}/price/history/indicators")
+    public CompletableFuture<ResponseEntity<IndicatorSeries>> getStockHistoryIndicator(
+            @PathVariable("ticker") String ticker,
+            @RequestParam String dateType,
+            @RequestParam String type,
+            @RequestParam(defaultValue = "20") int window) {
+        return async(() -> stockIndicatorService.getHistoryIndicator(ticker, dateType, type, window));
+    }
+
+    @GetMapping("/api/stock/{ticker}/price/minutes/indicators")
+    public CompletableFuture<ResponseEntity<IndicatorSeries>> getStockMinuteIndicator(
+            @PathVariable("ticker") String ticker,
+            @RequestParam(defaultValue = "5") String intervalMinutes,
+            @RequestParam String type,
+            @RequestParam(defaultValue = "20") int window) {
+        return async(() -> stockIndicatorService.getMinuteIndicator(ticker, intervalMinutes, type, window));
     }
 
     @GetMapping("/api/stock/search")
     public List<StockSearch> searchStock(@RequestParam String query) {
         return stockService.searchTickers(query);
     }
+
+    //요청 스레드는 바로 반환하고 증권사 API 호출은 stockExecutor에서 처리
+    private <T> CompletableFuture<ResponseEntity<T>> async(Supplier<T> supplier) {
+        try {
+            return CompletableFuture.supplyAsync(() -> toResponse(StaleData.capture(supplier)), stockExecutor);
+        } catch (RejectedExecutionException e) {
+            throw new StockRateLimited();
+        }
+    }
+
+    //증권사 장애로 마지막으로 성공한 응답을 반환한 경우 헤더로 알린다.
+    private static <T> ResponseEntity<T> toResponse(StaleData.Result<T> result) {
+        if (!result.isStale()) {
+            return ResponseEntity.ok(result.value());
+        }
+        return ResponseEntity.ok()
+                .header(STALE_HEADER, "true")
+                .header(LOADED_AT_HEADER, result.loadedAt().toString())
+                .body(result.value());
+    }
 }
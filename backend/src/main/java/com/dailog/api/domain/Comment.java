@@ -15,6 +15,7 @@ import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
 import java.util.ArrayList;
 import java.util.List;
@@ -25,7 +26,7 @@ import lombok.NoArgsConstructor;
 @Entity
 @Table(
         indexes = {
-                @Index(name = "IDX_COMMENT_POST_ID", columnList = "post_id")
+                @Index(name = "IDX_COMMENT_POST_ID_THREAD_ID", columnList = "post_id, thread_id, comment_id")
         }
 )
 @NoArgsConstructor(access = PROTECTED)
@@ -61,6 +62,10 @@ public class Comment extends BaseEntity {
     @JoinColumn(name = "parent_id")
     private Comment parentComment;
 
+    //부모 댓글 ID (부모 댓글은 자기 ID), 목록을 (thread_id, comment_id) 인덱스 순서로 조회하기 위해 저장
+    @Column(name = "thread_id")
+    private Long threadId;
+
     @Builder
     public Comment(Member member, String anonymousName, String password, String content, Post post, String ipAddress,
                    Comment parentComment) {
@@ -72,6 +77,17 @@ public class Comment extends BaseEntity {
         this.post = post;
         this.ipAddress = ipAddress;
         this.parentComment = parentComment;
+        if (parentComment != null) {
+            this.threadId = parentComment.getThreadId() != null ? parentComment.getThreadId() : parentComment.getId();
+        }
+    }
+
+    //부모 댓글은 ID가 발급된 뒤에 스레드 ID를 정한다.
+    @PostPersist
+    private void assignThreadId() {
+        if (threadId == null) {
+            threadId = id;
+        }
     }
 
     public CommentEditorBuilder toEditor() {
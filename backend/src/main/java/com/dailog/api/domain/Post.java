@@ -9,9 +9,11 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.AccessLevel;
@@ -20,6 +22,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(
+        indexes = {
+                @Index(name = "IDX_POST_LIKE_COUNT", columnList = "like_count, post_id")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Post extends BaseEntity {
@@ -43,6 +50,13 @@ public class Post extends BaseEntity {
 
     private long views;
 
+    //목록 조회 시 comments.size(), likes.size() 서브쿼리를 피하기 위해 반정규화한 카운터
+    @Column(name = "comment_count")
+    private long commentCount;
+
+    @Column(name = "like_count")
+    private long likeCount;
+
     @OneToMany(mappedBy = "post", cascade = ALL, orphanRemoval = true)
     private List<Likes> likes = new ArrayList<>();
 
@@ -0,0 +1,102 @@
+package com.dailog.api.domain;
+
+import com.dailog.api.service.stock.Candle;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 마감된 일/주/월봉, 한 번 저장하면 바뀌지 않는다. (수정주가가 바뀌면 지우고 다시 저장)
+ */
+@Entity
+@Table(
+        uniqueConstraints = {
+                @UniqueConstraint(name = "UK_STOCK_CANDLE", columnNames = {"ticker", "period_type", "trade_date"})
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockCandle {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "stock_candle_id")
+    private Long id;
+
+    @Column(nullable = false, length = 16)
+    private String ticker;
+
+    @Column(name = "period_type", nullable = false, length = 1)
+    private String periodType;  //일/주/월 (0/1/2)
+
+    @Column(name = "trade_date", nullable = false)
+    private LocalDate tradeDate;
+
+    @Column(name = "open_price", precision = 19, scale = 4)
+    private BigDecimal open;
+
+    @Column(name = "high_price", precision = 19, scale = 4)
+    private BigDecimal high;
+
+    @Column(name = "low_price", precision = 19, scale = 4)
+    private BigDecimal low;
+
+    @Column(name = "close_price", precision = 19, scale = 4)
+    private BigDecimal close;
+
+    @Column(name = "diff_price", precision = 19, scale = 4)
+    private BigDecimal diff;
+
+    @Column(name = "change_rate", precision = 19, scale = 4)
+    private BigDecimal rate;
+
+    private long volume;
+
+    @Builder
+    public StockCandle(String ticker, String periodType, LocalDate tradeDate, BigDecimal open, BigDecimal high,
+                       BigDecimal low, BigDecimal close, BigDecimal diff, BigDecimal rate, long volume) {
+        this.ticker = ticker;
+        this.periodType = periodType;
+        this.tradeDate = tradeDate;
+        this.open = open;
+        this.high = high;
+        this.low = low;
+        this.close = close;
+        this.diff = diff;
+        this.rate = rate;
+        this.volume = volume;
+    }
+
+    public static StockCandle of(String ticker, String periodType, Candle candle) {
+        return StockCandle.builder()
+                .ticker(ticker)
+                .periodType(periodType)
+                .tradeDate(LocalDate.parse(candle.date(), DATE_FORMAT))
+                .open(BigDecimal.valueOf(candle.open()))
+                .high(BigDecimal.valueOf(candle.high()))
+                .low(BigDecimal.valueOf(candle.low()))
+                .close(BigDecimal.valueOf(candle.close()))
+                .diff(BigDecimal.valueOf(candle.diff()))
+                .rate(BigDecimal.valueOf(candle.rate()))
+                .volume(candle.volume())
+                .build();
+    }
+
+    public Candle toCandle() {
+        return new Candle(tradeDate.format(DATE_FORMAT), open.doubleValue(), high.doubleValue(), low.doubleValue(),
+                close.doubleValue(), diff.doubleValue(), rate.doubleValue(), volume);
+    }
+}
@@ -0,0 +1,99 @@
+package com.dailog.api.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 종목, 기간 구분별로 빠짐없이 저장된 봉의 구간
+ * fromDate ~ toDate 사이의 마감된 봉은 모두 StockCandle에 있다.
+ */
+@Entity
+@Table(
+        uniqueConstraints = {
+                @UniqueConstraint(name = "UK_STOCK_CANDLE_RANGE", columnNames = {"ticker", "period_type"})
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockCandleRange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "stock_candle_range_id")
+    private Long id;
+
+    @Column(nullable = false, length = 16)
+    private String ticker;
+
+    @Column(name = "period_type", nullable = false, length = 1)
+    private String periodType;
+
+    @Column(name = "from_date", nullable = false)
+    private LocalDate fromDate;
+
+    @Column(name = "to_date", nullable = false)
+    private LocalDate toDate;
+
+    //fromDate가 상장 이후 첫 봉인지 여부 -> 더 과거의 봉은 없다.
+    @Column(name = "reached_start")
+    private boolean reachedStart;
+
+    //최신 봉까지 받았을 때의 기간 시작일 -> 이 날짜 이전의 마감된 봉은 toDate 이후로 더 없다.
+    @Column(name = "complete_before")
+    private LocalDate completeBefore;
+
+    @Builder
+    public StockCandleRange(String ticker, String periodType, LocalDate fromDate, LocalDate toDate,
+                            boolean reachedStart) {
+        this.ticker = ticker;
+        this.periodType = periodType;
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+        this.reachedStart = reachedStart;
+    }
+
+    public boolean contains(LocalDate date) {
+        return !date.isBefore(fromDate) && !date.isAfter(toDate);
+    }
+
+    public boolean overlaps(LocalDate from, LocalDate to) {
+        return !from.isAfter(toDate) && !to.isBefore(fromDate);
+    }
+
+    public boolean isCompleteBefore(LocalDate date) {
+        return completeBefore != null && !completeBefore.isBefore(date);
+    }
+
+    public void markCompleteBefore(LocalDate date) {
+        completeBefore = date;
+    }
+
+    //최신 봉이 기존 구간과 이어지지 않거나 수정주가가 바뀌어 봉을 다시 쌓을 때 새로 받은 구간으로 교체
+    public void reset(LocalDate from, LocalDate to, boolean reachedStart) {
+        fromDate = from;
+        toDate = to;
+        this.reachedStart = reachedStart;
+        completeBefore = null;
+    }
+
+    //겹치는 구간을 저장했을 때만 호출
+    public void extend(LocalDate from, LocalDate to, boolean reachedStart) {
+        if (from.isBefore(fromDate)) {
+            fromDate = from;
+            this.reachedStart = reachedStart;
+        }
+        if (to.isAfter(toDate)) {
+            toDate = to;
+        }
+    }
+}
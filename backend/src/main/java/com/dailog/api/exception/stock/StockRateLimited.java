@@ -0,0 +1,20 @@
+package com.dailog.api.exception.stock;
+
+import com.dailog.api.exception.DailogException;
+
+/**
+ * status -> 429
+ */
+public class StockRateLimited extends DailogException {
+
+    private static final String MESSAGE = "요청이 많습니다. 잠시 후 다시 시도해 주세요.";
+
+    public StockRateLimited() {
+        super(MESSAGE);
+    }
+
+    @Override
+    public int getStatusCode() {
+        return 429;
+    }
+}
@@ -0,0 +1,24 @@
+package com.dailog.api.exception.stock;
+
+import com.dailog.api.exception.DailogException;
+
+/**
+ * status -> 503
+ */
+public class StockUnavailable extends DailogException {
+
+    private static final String MESSAGE = "증권사 서버에 연결할 수 없습니다. 잠시 후 다시 시도해 주세요.";
+
+    public StockUnavailable() {
+        super(MESSAGE);
+    }
+
+    public StockUnavailable(Throwable cause) {
+        super(MESSAGE, cause);
+    }
+
+    @Override
+    public int getStatusCode() {
+        return 503;
+    }
+}
@@ -1,11 +1,11 @@
 package com.dailog.api.repository.comment;
 
 import static com.dailog.api.domain.QComment.comment;
+import static com.dailog.api.domain.QMember.member;
 
 import com.dailog.api.domain.Comment;
 import com.dailog.api.request.comment.CommentPageRequest;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -19,37 +19,21 @@ public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
     @Override
     public Page<Comment> getList(Long postId, CommentPageRequest commentPageRequest) {
 
-        //Long totalCount = queryFactory.select(comment.count())
-        //        .from(comment)
-        //        .where(comment.post.id.eq(postId))
-        //        .fetchFirst();
-
-        //부모 댓글 조회
-        List<Comment> parentComments = queryFactory.selectFrom(comment)
-                .where(comment.post.id.eq(postId)
-                        .and(comment.parentComment.isNull()))
-                .orderBy(comment.createdAt.asc())
+        Long totalCount = queryFactory.select(comment.count())
+                .from(comment)
+                .where(comment.post.id.eq(postId))
+                .fetchFirst();
+
+        //스레드(부모 댓글 ID) -> 작성 순(부모 댓글이 먼저 작성됨)으로 정렬해서 (post_id, thread_id, comment_id) 인덱스로 페이징
+        //작성자 닉네임을 위해 회원을 함께 조회
+        List<Comment> pagedComments = queryFactory.selectFrom(comment)
+                .leftJoin(comment.member, member).fetchJoin()
+                .where(comment.post.id.eq(postId))
+                .orderBy(comment.threadId.asc(), comment.id.asc())
+                .offset(commentPageRequest.getOffset())
+                .limit(Math.min(commentPageRequest.getSize(), CommentPageRequest.MAX_SIZE))
                 .fetch();
 
-        List<Comment> allComments = new ArrayList<>();
-        for (Comment parentComment : parentComments) {
-            //부모 댓글의 자식 댓글 조회
-            List<Comment> childComments = queryFactory.selectFrom(comment)
-                    .where(comment.parentComment.eq(parentComment))
-                    .orderBy(comment.createdAt.asc())
-                    .fetch();
-
-            //부모 -> 자식 순으로 리스트에 추가
-            allComments.add(parentComment);
-            allComments.addAll(childComments);
-        }
-
-        int start = (int) commentPageRequest.getOffset();
-        int end = Math.min((start + commentPageRequest.getSize()), allComments.size());
-
-        //페이징된 결과 리스트 생성
-        List<Comment> pagedComments = allComments.subList(start, end);
-
-        return new PageImpl<>(pagedComments, commentPageRequest.getPageable(), allComments.size());
+        return new PageImpl<>(pagedComments, commentPageRequest.getPageable(), totalCount);
     }
 }
@@ -18,4 +18,27 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostRepositor
     @Modifying
     @Query("UPDATE Post p SET p.views = p.views + 1 WHERE p.id = :postId")
     void increaseViews(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + 1 WHERE p.id = :postId")
+    void increaseCommentCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount - 1 WHERE p.id = :postId AND p.commentCount > 0")
+    void decreaseCommentCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + 1 WHERE p.id = :postId")
+    void increaseLikeCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount - 1 WHERE p.id = :postId AND p.likeCount > 0")
+    void decreaseLikeCount(@Param("postId") Long postId);
+
+    //카운터가 실제 댓글/좋아요 수와 어긋난 경우 다시 맞춘다.
+    @Modifying
+    @Query("UPDATE Post p "
+            + "SET p.commentCount = (SELECT count(c) FROM Comment c WHERE c.post = p), "
+            + "p.likeCount = (SELECT count(l) FROM Likes l WHERE l.post = p)")
+    int reconcileCounts();
 }
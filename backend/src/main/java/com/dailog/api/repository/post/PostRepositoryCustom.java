@@ -4,9 +4,11 @@ package com.dailog.api.repository.post;
 import com.dailog.api.domain.Post;
 import com.dailog.api.request.post.PostPageRequest;
 import com.dailog.api.request.post.PostSearch;
+import com.dailog.api.response.post.PostDetailResponse;
 import com.dailog.api.response.post.PostListResponse;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 public interface PostRepositoryCustom {
 
@@ -14,6 +16,10 @@ public interface PostRepositoryCustom {
 
     Page<PostListResponse> getList(PostSearch postSearch, PostPageRequest postPageRequest);
 
+    Slice<PostListResponse> getListByCursor(PostSearch postSearch, PostPageRequest postPageRequest);
+
+    Optional<PostDetailResponse> findDetailById(Long id);
+
     Optional<Post> findPrevPost(Long id);
 
     Optional<Post> findNextPost(Long id);
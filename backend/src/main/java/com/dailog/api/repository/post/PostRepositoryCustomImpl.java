@@ -1,14 +1,17 @@
 package com.dailog.api.repository.post;
 
 import static com.dailog.api.domain.QLikes.likes;
+import static com.dailog.api.domain.QMember.member;
 import static com.dailog.api.domain.QPost.post;
 import static com.querydsl.core.types.Projections.constructor;
 import static com.querydsl.jpa.JPAExpressions.select;
 
 import com.dailog.api.domain.Post;
 import com.dailog.api.domain.QPost;
+import com.dailog.api.request.post.PostCursor;
 import com.dailog.api.request.post.PostPageRequest;
 import com.dailog.api.request.post.PostSearch;
+import com.dailog.api.response.post.PostDetailResponse;
 import com.dailog.api.response.post.PostListResponse;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.ExpressionUtils;
@@ -24,14 +27,26 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
-@RequiredArgsConstructor
 public class PostRepositoryCustomImpl implements PostRepositoryCustom {
 
+    private static final int NGRAM_TOKEN_SIZE = 2;  //MySQL ngram_token_size 기본값
+
     private final JPAQueryFactory queryFactory;
+    private final boolean fullTextSearch;
+
+    //fulltext 모드는 db/post-fulltext-index.sql의 ngram FULLTEXT 인덱스가 있어야 한다.
+    public PostRepositoryCustomImpl(JPAQueryFactory queryFactory,
+                                    @Value("${post.search.mode:like}") String searchMode) {
+        this.queryFactory = queryFactory;
+        this.fullTextSearch = "fulltext".equalsIgnoreCase(searchMode);
+    }
 
     @Override
     public Page<Post> getList(PostPageRequest postPageRequest) {
@@ -54,16 +69,20 @@ public class PostRepositoryCustomImpl implements PostRepositoryCustom {
 
         BooleanBuilder builder = new BooleanBuilder();
         builder.and(regDtsAfter(postSearch.getSearchDateType()));
-        builder.and(searchByLike(postSearch.getSearchQuery(), postSearch.getSearchType()));
+        builder.and(search(postSearch.getSearchQuery(), postSearch.getSearchType()));
 
         Long count = queryFactory.select(post.count())
                 .from(post)
                 .where(builder)
                 .fetchFirst();
 
+        //전문 검색일 때는 좋아요 순 정렬이 아니면 관련도 순으로 정렬
+        NumberExpression<Double> score = matchScore(postSearch.getSearchQuery(), postSearch.getSearchType());
         List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
         if (postPageRequest.isSortByLikes()) {
-            orderSpecifiers.add(post.likes.size().desc());
+            orderSpecifiers.add(post.likeCount.desc());
+        } else if (score != null) {
+            orderSpecifiers.add(score.desc());
         }
         orderSpecifiers.add(post.id.desc());
 
@@ -74,9 +93,9 @@ public class PostRepositoryCustomImpl implements PostRepositoryCustom {
                                 post.content,
                                 post.createdAt,
                                 post.member.nickname,
-                                post.comments.size().longValue(),
+                                post.commentCount,
                                 post.views,
-                                post.likes.size().longValue()))
+                                post.likeCount))
                 .from(post)
                 .where(builder)
                 .limit(postPageRequest.getSize())
@@ -87,6 +106,72 @@ public class PostRepositoryCustomImpl implements PostRepositoryCustom {
         return new PageImpl<>(posts, postPageRequest.getPageable(), count);
     }
 
+    //count 쿼리와 offset 없이 마지막으로 조회한 게시글 다음부터 조회 -> 몇 번째 페이지든 첫 페이지와 비용이 같다.
+    @Override
+    public Slice<PostListResponse> getListByCursor(PostSearch postSearch, PostPageRequest postPageRequest) {
+
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(regDtsAfter(postSearch.getSearchDateType()));
+        //관련도는 커서로 이어 붙일 수 없으므로 전문 검색은 필터로만 사용하고 정렬은 그대로 둔다.
+        builder.and(search(postSearch.getSearchQuery(), postSearch.getSearchType()));
+        builder.and(afterCursor(postPageRequest.getPostCursor(), postPageRequest.isSortByLikes()));
+
+        List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
+        if (postPageRequest.isSortByLikes()) {
+            orderSpecifiers.add(post.likeCount.desc());
+        }
+        orderSpecifiers.add(post.id.desc());
+
+        int limit = postPageRequest.getLimit();
+
+        //다음 페이지 존재 여부를 확인하기 위해 1개 더 조회
+        List<PostListResponse> posts = queryFactory.select(
+                        constructor(PostListResponse.class,
+                                post.id,
+                                post.title,
+                                post.content,
+                                post.createdAt,
+                                post.member.nickname,
+                                post.commentCount,
+                                post.views,
+                                post.likeCount))
+                .from(post)
+                .where(builder)
+                .limit(limit + 1)
+                .orderBy(orderSpecifiers.toArray(new OrderSpecifier<?>[0]))
+                .fetch();
+
+        boolean hasNext = posts.size() > limit;
+        if (hasNext) {
+            posts = posts.subList(0, limit);
+        }
+
+        return new SliceImpl<>(posts, PageRequest.of(0, limit), hasNext);
+    }
+
+    //작성자 닉네임까지 한 번에 조회, 댓글 컬렉션은 초기화하지 않는다.
+    @Override
+    public Optional<PostDetailResponse> findDetailById(Long id) {
+
+        PostDetailResponse postDetail = queryFactory.select(
+                        constructor(PostDetailResponse.class,
+                                post.id,
+                                member.id,
+                                member.nickname,
+                                post.title,
+                                post.content,
+                                post.createdAt,
+                                post.createdBy,
+                                post.commentCount,
+                                post.views))
+                .from(post)
+                .leftJoin(post.member, member)
+                .where(post.id.eq(id))
+                .fetchOne();
+
+        return Optional.ofNullable(postDetail);
+    }
+
     @Override
     public Optional<Post> findPrevPost(Long id) {
 
@@ -150,6 +235,70 @@ public class PostRepositoryCustomImpl implements PostRepositoryCustom {
                 .or(post.createdAt.eq(dateTime));
     }
 
+    private BooleanExpression afterCursor(PostCursor cursor, boolean sortByLikes) {
+        if (cursor == null) {
+            return null;
+        }
+
+        if (sortByLikes) {
+            return post.likeCount.lt(cursor.getLikes())
+                    .or(post.likeCount.eq(cursor.getLikes())
+                            .and(post.id.lt(cursor.getPostId())));
+        }
+
+        return post.id.lt(cursor.getPostId());
+    }
+
+    //전문 검색을 사용할 수 있으면 FULLTEXT 인덱스로, 아니면 LIKE로 검색
+    private BooleanExpression search(String searchQuery, String searchType) {
+        NumberExpression<Double> score = matchScore(searchQuery, searchType);
+        if (score != null) {
+            return score.gt(0.0);
+        }
+        return searchByLike(searchQuery, searchType);
+    }
+
+    //MATCH ... AGAINST 관련도, 전문 검색을 쓰지 않거나 ngram 토큰보다 짧은 검색어는 null
+    private NumberExpression<Double> matchScore(String searchQuery, String searchType) {
+        if (!fullTextSearch || searchQuery == null || searchType == null) {
+            return null;
+        }
+
+        String phrase = toPhrase(searchQuery);
+        if (phrase == null) {
+            return null;
+        }
+
+        switch (searchType) {
+            case "title" -> {
+                return Expressions.numberTemplate(Double.class,
+                        "function('match_against', {0}, {1})", post.title, phrase);
+            }
+            case "content" -> {
+                return Expressions.numberTemplate(Double.class,
+                        "function('match_against', {0}, {1})", post.content, phrase);
+            }
+            case "titleOrContent" -> {
+                return Expressions.numberTemplate(Double.class,
+                        "function('match_against2', {0}, {1}, {2})", post.title, post.content, phrase);
+            }
+            default -> {
+                return null;
+            }
+        }
+    }
+
+    //불리언 모드 연산자를 지우고 구문 검색으로 감싼다 -> LIKE '%검색어%'와 같은 결과
+    private String toPhrase(String searchQuery) {
+        String cleaned = searchQuery.replaceAll("[\"+\\-<>()~*@]", " ")
+                .trim()
+                .replaceAll("\\s+", " ");
+        if (cleaned.length() < NGRAM_TOKEN_SIZE) {
+            return null;
+        }
+        return "\"" + cleaned + "\"";
+    }
+
     private BooleanExpression searchByLike(String searchQuery, String searchType) {
         if (searchQuery == null || searchType == null) {
             return null;
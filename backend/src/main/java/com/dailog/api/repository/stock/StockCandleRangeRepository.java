@@ -0,0 +1,10 @@
+package com.dailog.api.repository.stock;
+
+import com.dailog.api.domain.StockCandleRange;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface StockCandleRangeRepository extends JpaRepository<StockCandleRange, Long> {
+
+    Optional<StockCandleRange> findByTickerAndPeriodType(String ticker, String periodType);
+}
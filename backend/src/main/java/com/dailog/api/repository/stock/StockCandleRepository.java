@@ -0,0 +1,22 @@
+package com.dailog.api.repository.stock;
+
+import com.dailog.api.domain.StockCandle;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface StockCandleRepository extends JpaRepository<StockCandle, Long> {
+
+    List<StockCandle> findTop100ByTickerAndPeriodTypeAndTradeDateBetweenOrderByTradeDateDesc(
+            String ticker, String periodType, LocalDate from, LocalDate to);
+
+    List<StockCandle> findByTickerAndPeriodTypeAndTradeDateBetween(String ticker, String periodType,
+                                                                   LocalDate from, LocalDate to);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from StockCandle c where c.ticker = :ticker and c.periodType = :periodType")
+    void deleteByTickerAndPeriodType(@Param("ticker") String ticker, @Param("periodType") String periodType);
+}
@@ -0,0 +1,51 @@
+package com.dailog.api.request.post;
+
+import com.dailog.api.exception.InvalidRequest;
+import com.dailog.api.response.post.PostListResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import lombok.Getter;
+
+/**
+ * 게시글 목록 커서 페이징의 기준점
+ * 마지막으로 조회한 게시글의 (좋아요 수, 게시글 ID)를 클라이언트가 해석할 수 없는 문자열로 인코딩
+ */
+@Getter
+public class PostCursor {
+
+    private static final String DELIMITER = ":";
+
+    private final long likes;
+    private final long postId;
+
+    public PostCursor(long likes, long postId) {
+        this.likes = likes;
+        this.postId = postId;
+    }
+
+    public static PostCursor from(PostListResponse lastPost) {
+        return new PostCursor(lastPost.getLikes(), lastPost.getId());
+    }
+
+    public String encode() {
+        String raw = likes + DELIMITER + postId;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    //빈 커서는 첫 페이지를 의미
+    public static PostCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] split = raw.split(DELIMITER);
+            return new PostCursor(Long.parseLong(split[0]), Long.parseLong(split[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new InvalidRequest("cursor", "잘못된 커서입니다.");
+        }
+    }
+}
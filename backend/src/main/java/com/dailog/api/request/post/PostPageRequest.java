@@ -20,12 +20,21 @@ public class PostPageRequest {
     private int size = 10;
     @Builder.Default
     private boolean sortByLikes = false;
+    private String cursor;  //커서 페이징 시 마지막으로 조회한 게시글 위치
 
     public long getOffset() {
         //페이지가 0일 때 첫 번째 페이지
         return (long) (max(1, page) - 1) * min(size, MAX_SIZE);
     }
 
+    public int getLimit() {
+        return min(size, MAX_SIZE);
+    }
+
+    public PostCursor getPostCursor() {
+        return PostCursor.decode(cursor);
+    }
+
     public Pageable getPageable() {
         return PageRequest.of(max(1, page) - 1, min(size, MAX_SIZE));
     }
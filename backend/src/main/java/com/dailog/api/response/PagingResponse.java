@@ -1,22 +1,36 @@
 package com.dailog.api.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import java.util.List;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 @Getter
+@JsonInclude(Include.NON_NULL)
 public class PagingResponse<T> {
 
     private final long page;
     private final long size;
-    private final long totalCount;
+    private final Long totalCount;  //커서 페이징에서는 전체 개수를 세지 않는다.
+    private final String nextCursor;  //다음 페이지가 없으면 null
     private final List<T> items;
 
     public PagingResponse(Page<?> page, Class<T> entityClass) {
-        this.page = page.getNumber();
-        this.size = page.getSize();
-        this.totalCount = page.getTotalElements();
-        this.items = page.getContent().stream()
+        this(page, entityClass, page.getTotalElements(), null);
+    }
+
+    public PagingResponse(Slice<?> slice, Class<T> entityClass, String nextCursor) {
+        this(slice, entityClass, null, nextCursor);
+    }
+
+    private PagingResponse(Slice<?> slice, Class<T> entityClass, Long totalCount, String nextCursor) {
+        this.page = slice.getNumber();
+        this.size = slice.getSize();
+        this.totalCount = totalCount;
+        this.nextCursor = nextCursor;
+        this.items = slice.getContent().stream()
                 .map(content -> {
                     try {
                         return entityClass.getConstructor(content.getClass()).newInstance(content);
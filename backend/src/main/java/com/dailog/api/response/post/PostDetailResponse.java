@@ -1,6 +1,8 @@
 package com.dailog.api.response.post;
 
 import com.dailog.api.domain.Post;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -30,7 +32,7 @@ public class PostDetailResponse {
         this.title = post.getTitle().substring(0, Math.min(post.getTitle().length(), 60));
         this.content = post.getContent();
         this.nickname = post.getMember().getNickname();
-        this.commentCount = post.getComments().size();
+        this.commentCount = post.getCommentCount();
         this.views = post.getViews();
 
         ZonedDateTime utcCreatedAt = post.getCreatedAt().atZone(ZoneId.of("UTC"));
@@ -46,7 +48,7 @@ public class PostDetailResponse {
         this.title = post.getTitle().substring(0, Math.min(post.getTitle().length(), 60));
         this.content = post.getContent();
         this.nickname = post.getMember().getNickname();
-        this.commentCount = post.getComments().size();
+        this.commentCount = post.getCommentCount();
         this.views = views;
 
         ZonedDateTime utcCreatedAt = post.getCreatedAt().atZone(ZoneId.of("UTC"));
@@ -56,6 +58,28 @@ public class PostDetailResponse {
         this.createdBy = post.getCreatedBy();
     }
 
+    //캐시에서 복원하거나 조회수만 바꾼 복사본을 만들 때 사용
+    @JsonCreator
+    private PostDetailResponse(@JsonProperty("id") Long id,
+                               @JsonProperty("memberId") Long memberId,
+                               @JsonProperty("nickname") String nickname,
+                               @JsonProperty("title") String title,
+                               @JsonProperty("content") String content,
+                               @JsonProperty("createdAt") String createdAt,
+                               @JsonProperty("createdBy") String createdBy,
+                               @JsonProperty("commentCount") long commentCount,
+                               @JsonProperty("views") long views) {
+        this.id = id;
+        this.memberId = memberId;
+        this.nickname = nickname;
+        this.title = title;
+        this.content = content;
+        this.createdAt = createdAt;
+        this.createdBy = createdBy;
+        this.commentCount = commentCount;
+        this.views = views;
+    }
+
     @Builder
     public PostDetailResponse(Long id, Long memberId, String nickname, String title, String content,
                               LocalDateTime createdAt, String createdBy, long commentCount, long views) {
@@ -73,4 +97,9 @@ public class PostDetailResponse {
         this.createdAt = seoulCreatedAt.format(formatter);
         this.createdBy = createdBy;
     }
+
+    public PostDetailResponse withViews(long views) {
+        return new PostDetailResponse(id, memberId, nickname, title, content, createdAt, createdBy, commentCount,
+                views);
+    }
 }
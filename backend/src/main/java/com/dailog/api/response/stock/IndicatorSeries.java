@@ -0,0 +1,23 @@
+package com.dailog.api.response.stock;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 기술적 지표 응답, 차트 응답과 같이 최신 -> 과거 순이며 window만큼 봉이 쌓이기 전 구간은 포함하지 않는다.
+ */
+@Getter
+@Builder
+@JsonInclude(Include.NON_NULL)
+public class IndicatorSeries {
+
+    private String type;
+    private int window;
+    private List<String> dates;
+    private double[] values;  //볼린저 밴드는 중심선
+    private double[] upper;  //볼린저 밴드 상단
+    private double[] lower;  //볼린저 밴드 하단
+}
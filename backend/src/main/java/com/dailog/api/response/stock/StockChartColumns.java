@@ -0,0 +1,26 @@
+package com.dailog.api.response.stock;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 열 단위 차트 응답 (format=columnar)
+ * 같은 인덱스의 값이 봉 하나이며, 가격은 문자열이 아닌 숫자로 응답한다.
+ */
+@Getter
+@Builder
+@JsonInclude(Include.NON_NULL)
+public class StockChartColumns {
+
+    private List<String> dates;  //일봉은 YYYYMMDD, 분봉은 YYYYMMDDHHMMSS
+    private double[] open;
+    private double[] close;
+    private double[] high;
+    private double[] low;
+    private double[] diff;  //분봉은 null
+    private double[] rate;  //분봉은 null
+    private long[] volume;
+}
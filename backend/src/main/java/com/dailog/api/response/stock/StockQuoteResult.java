@@ -0,0 +1,40 @@
+package com.dailog.api.response.stock;
+
+import com.dailog.api.exception.DailogException;
+import com.dailog.api.response.ErrorResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import lombok.Getter;
+
+/**
+ * 여러 종목 현재가 조회 결과, 종목별로 detail과 error 중 하나만 채워진다.
+ */
+@Getter
+@JsonInclude(Include.NON_NULL)
+public class StockQuoteResult {
+
+    private final String ticker;
+    private final StockDetail detail;
+    private final Boolean stale;  //증권사 장애로 마지막으로 성공한 현재가를 대신 응답하면 true
+    private final ErrorResponse error;
+
+    private StockQuoteResult(String ticker, StockDetail detail, Boolean stale, ErrorResponse error) {
+        this.ticker = ticker;
+        this.detail = detail;
+        this.stale = stale;
+        this.error = error;
+    }
+
+    public static StockQuoteResult success(String ticker, StockDetail detail, boolean stale) {
+        return new StockQuoteResult(ticker, detail, stale ? Boolean.TRUE : null, null);
+    }
+
+    public static StockQuoteResult failure(String ticker, DailogException e) {
+        ErrorResponse error = ErrorResponse.builder()
+                .code(String.valueOf(e.getStatusCode()))
+                .message(e.getMessage())
+                .validation(e.getValidation())
+                .build();
+        return new StockQuoteResult(ticker, null, null, error);
+    }
+}
@@ -1,5 +1,6 @@
 package com.dailog.api.service;
 
+import com.dailog.api.config.cache.CacheNames;
 import com.dailog.api.domain.Comment;
 import com.dailog.api.domain.CommentEditor;
 import com.dailog.api.domain.CommentEditor.CommentEditorBuilder;
@@ -25,6 +26,7 @@ import com.dailog.api.response.comment.CommentResponse;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -39,6 +41,7 @@ public class CommentService {
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final PasswordEncoder passwordEncoder;
+    private final CacheManager cacheManager;
 
     @Transactional
     public CommentIdResponse writeByMember(Long postId, CommentCreateForMember request, String email) {
@@ -72,6 +75,8 @@ public class CommentService {
         commentRepository.save(comment);
         member.addComment(comment);
         post.addComment(comment);
+        postRepository.increaseCommentCount(postId);
+        evictPostDetail(postId);
         return new CommentIdResponse(comment.getId());
     }
 
@@ -108,6 +113,8 @@ public class CommentService {
 
         commentRepository.save(comment);
         post.addComment(comment);
+        postRepository.increaseCommentCount(postId);
+        evictPostDetail(postId);
         return new CommentIdResponse(comment.getId());
     }
 
@@ -149,25 +156,39 @@ public class CommentService {
         return new CommentIdResponse(comment.getId());
     }
 
+    @Transactional
     public void deleteCommentByAdmin(Long commentId) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(CommentNotFound::new);
         commentRepository.delete(comment);
+        postRepository.decreaseCommentCount(comment.getPost().getId());
+        evictPostDetail(comment.getPost().getId());
     }
 
+    @Transactional
     public void deleteMemberComment(Long commentId, String email) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(CommentNotFound::new);
         Long memberId = comment.getMemberId();
         validateWriter(memberId, email);
         commentRepository.delete(comment);
+        postRepository.decreaseCommentCount(comment.getPost().getId());
+        evictPostDetail(comment.getPost().getId());
     }
 
+    @Transactional
     public void deleteAnonymousComment(Long commentId, CommentDelete request) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(CommentNotFound::new);
         validatePassword(request.getPassword(), comment);
         commentRepository.delete(comment);
+        postRepository.decreaseCommentCount(comment.getPost().getId());
+        evictPostDetail(comment.getPost().getId());
+    }
+
+    //게시글 상세의 댓글 수가 바뀌므로 캐시를 무효화
+    private void evictPostDetail(Long postId) {
+        cacheManager.getCache(CacheNames.POST_DETAIL).evict(postId);
     }
 
     private void validatePassword(String rawPassword, Comment comment) {
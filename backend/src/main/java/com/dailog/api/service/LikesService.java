@@ -45,6 +45,7 @@ public class LikesService {
                 .build();
         likesRepository.save(likes);
         post.addLikes(likes);
+        postRepository.increaseLikeCount(postId);
     }
 
     @Transactional
@@ -58,6 +59,7 @@ public class LikesService {
 
         likesRepository.delete(likes);
         post.cancelLikes(likes);
+        postRepository.decreaseLikeCount(postId);
     }
 
     public LikesResponse getCount(Long postId) {
@@ -1,5 +1,6 @@
 package com.dailog.api.service;
 
+import com.dailog.api.config.cache.CacheNames;
 import com.dailog.api.domain.Member;
 import com.dailog.api.domain.Post;
 import com.dailog.api.domain.PostEditor;
@@ -10,6 +11,7 @@ import com.dailog.api.exception.post.PostNotFound;
 import com.dailog.api.repository.member.MemberRepository;
 import com.dailog.api.repository.post.PostRepository;
 import com.dailog.api.request.post.PostCreate;
+import com.dailog.api.request.post.PostCursor;
 import com.dailog.api.request.post.PostEdit;
 import com.dailog.api.request.post.PostPageRequest;
 import com.dailog.api.request.post.PostSearch;
@@ -17,27 +19,51 @@ import com.dailog.api.response.PagingResponse;
 import com.dailog.api.response.post.PostDetailResponse;
 import com.dailog.api.response.post.PostIdResponse;
 import com.dailog.api.response.post.PostListResponse;
+import com.dailog.api.service.views.PostViewDeduplicator;
 import com.dailog.api.util.JWTUtil;
 import jakarta.servlet.http.HttpServletRequest;
-import java.time.Duration;
-import java.util.Set;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PostService {
 
+    //DB에 반영되지 않은 증가분, 이전 버전의 누적 조회수 키(post:views:{postId})와 구분하기 위해 다른 접두사를 사용
+    private static final String VIEWS_KEY_PREFIX = "post:views:pending:";
+    private static final String LEGACY_VIEWS_KEY_PATTERN = "post:views:[0-9]*";
+    private static final String LEGACY_VIEWS_KEY_PREFIX = "post:views:";
+    private static final int VIEWS_FLUSH_CHUNK_SIZE = 500;
+
     private final PostRepository postRepository;
     private final MemberRepository memberRepository;
     private final RedisTemplate<String, Object> redisTemplate;
     private final JWTUtil jwtUtil;
+    private final JdbcTemplate jdbcTemplate;
+    private final PostViewDeduplicator postViewDeduplicator;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
 
     @Transactional
     public void write(PostCreate postCreate, String email) {
@@ -53,20 +79,22 @@ public class PostService {
         postRepository.save(post);
     }
 
+    //DB 기준의 상세 정보를 캐시하고, 조회수는 Redis에 쌓인 증가분을 매번 더해서 반환
+    //캐시 미스일 때만 회원까지 한 번에 가져오는 프로젝션 쿼리로 조회
     public PostDetailResponse get(Long postId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(PostNotFound::new);
-        return new PostDetailResponse(post, getViews(postId));
+        Cache cache = getPostDetailCache();
+        PostDetailResponse postDetail = cache.get(postId, PostDetailResponse.class);
+        if (postDetail == null) {
+            postDetail = postRepository.findDetailById(postId)
+                    .orElseThrow(PostNotFound::new);
+            cache.put(postId, postDetail);
+        }
+        return postDetail.withViews(postDetail.getViews() + getPendingViews(postId));
     }
 
     public void viewPost(Long postId, HttpServletRequest request) {
-        String key = "post:viewed:" + postId + ":" + getUserId(request);
-
-        //key가 없으면 값을 설정하고 true 반환, key가 존재하면 값을 변경하지 않고 false 반환
-        Boolean isNotViewed = redisTemplate.opsForValue().setIfAbsent(key, "Viewed", Duration.ofHours(24));
-
         //24시간 내에 조회한 적이 없을 경우 조회수 증가
-        if (Boolean.TRUE.equals(isNotViewed)) {
+        if (postViewDeduplicator.isFirstView(postId, getUserId(request))) {
             //조회수의 동시성 제어를 위해 비관적 락을 걸어 조회
             //Post post = postRepository.findByIdWithLock(postId)
             //        .orElseThrow(PostNotFound::new);
@@ -76,48 +104,144 @@ public class PostService {
         }
     }
 
+    //Redis에는 아직 DB에 반영되지 않은 조회수 증가분만 저장
     public void incrementViews(Long postId) {
-        String key = "post:views:" + postId;
+        String key = VIEWS_KEY_PREFIX + postId;
         redisTemplate.opsForValue().increment(key);
     }
 
-    public long getViews(Long postId) {
-        String key = "post:views:" + postId;
-        Object currentViews = redisTemplate.opsForValue().get(key);
-
-        if (currentViews == null) {
-            Post post = postRepository.findById(postId)
-                    .orElseThrow(PostNotFound::new);
-            long dbViews = post.getViews();
-            redisTemplate.opsForValue().set(key, dbViews);
-            return dbViews;
+    private long getPendingViews(Long postId) {
+        Object pendingViews = redisTemplate.opsForValue().get(VIEWS_KEY_PREFIX + postId);
+        if (pendingViews == null) {
+            return 0L;
         }
-
-        return  (Integer) currentViews;
+        return ((Number) pendingViews).longValue();
     }
 
-    //@Scheduled(cron = "0 */10 * * * ?")  //10분마다 실행
-    @Scheduled(cron = "0 0 5 * * ?")  //오전 5시에 실행
-    @Transactional
+    //KEYS 대신 SCAN으로 키를 나눠 읽고, GETDEL로 증가분을 가져간 뒤 DB에 더한다.
+    //작업 중에 들어온 조회는 새 키에 쌓이므로 유실되지 않는다.
+    @Scheduled(initialDelayString = "${post.views.flush-interval-ms:600000}",
+            fixedDelayString = "${post.views.flush-interval-ms:600000}")  //기본 10분마다 실행
     public void updateViewsToDatabase() {
         log.info("Scheduled updateViewsToDatabase");
-        Set<String> keys = redisTemplate.keys("post:views:*");
+        ScanOptions scanOptions = ScanOptions.scanOptions()
+                .match(VIEWS_KEY_PREFIX + "*")
+                .count(VIEWS_FLUSH_CHUNK_SIZE)
+                .build();
+
+        int flushed = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(scanOptions)) {
+            List<String> keys = new ArrayList<>(VIEWS_FLUSH_CHUNK_SIZE);
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == VIEWS_FLUSH_CHUNK_SIZE) {
+                    flushed += flushViews(keys);
+                    keys.clear();
+                }
+            }
+            if (!keys.isEmpty()) {
+                flushed += flushViews(keys);
+            }
+        }
+        log.info("Flushed pending views of {} posts", flushed);
+    }
 
-        if (keys != null) {
+    private int flushViews(List<String> keys) {
+        //GETDEL을 파이프라인으로 한 번에 전송
+        List<Object> pendingViews = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
             for (String key : keys) {
-                Long postId = Long.parseLong(key.split(":")[2]);
-                Integer views = (Integer) redisTemplate.opsForValue().get(key);
+                connection.stringCommands().getDel(key.getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            Object views = pendingViews.get(i);
+            if (views != null) {
+                Long postId = Long.parseLong(keys.get(i).substring(VIEWS_KEY_PREFIX.length()));
+                batchArgs.add(new Object[]{((Number) views).longValue(), postId});
+            }
+        }
 
-                if (views != null) {
-                    Post post = postRepository.findById(postId)
-                            .orElseThrow(PostNotFound::new);
-                    post.updateViews(views);
+        try {
+            //한 트랜잭션으로 반영해서 실패하면 전부 롤백 -> 되돌려 놓은 증가분이 두 번 더해지지 않는다.
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate("UPDATE Post SET views = views + ? WHERE post_id = ?", batchArgs));
+        } catch (DataAccessException | TransactionException e) {
+            //DB 반영에 실패하면 가져간 증가분을 Redis에 되돌려 놓는다.
+            log.error("Failed to flush views to database: {}", e.getMessage());
+            for (Object[] args : batchArgs) {
+                redisTemplate.opsForValue().increment(VIEWS_KEY_PREFIX + args[1], (Long) args[0]);
+            }
+            return 0;
+        }
+
+        //DB 조회수가 바뀌었으므로 캐시된 상세 정보를 무효화
+        Cache cache = getPostDetailCache();
+        for (Object[] args : batchArgs) {
+            cache.evict(args[1]);
+        }
+        return batchArgs.size();
+    }
+
+    /**
+     * 이전 버전은 post:views:{postId}에 DB 조회수를 포함한 누적 조회수를 저장했다.
+     * 시작할 때 남아 있는 키를 GETDEL로 가져가서 DB 조회수보다 크면 반영한다. (여러 인스턴스가 동시에 실행해도 한 번만 반영)
+     * 한 번만 필요한 작업이므로 Redis나 DB 오류로 실패해도 서버 시작은 막지 않고, 남은 키는 다음 시작 때 반영한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyViews() {
+        ScanOptions scanOptions = ScanOptions.scanOptions()
+                .match(LEGACY_VIEWS_KEY_PATTERN)
+                .count(VIEWS_FLUSH_CHUNK_SIZE)
+                .build();
+
+        List<String> keys = new ArrayList<>();
+        try (Cursor<String> cursor = redisTemplate.scan(scanOptions)) {
+            cursor.forEachRemaining(keys::add);
+        } catch (RuntimeException e) {
+            log.warn("Failed to scan legacy view counters: {}", e.getMessage());
+            return;
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        //가져간 키는 Redis에서 지워졌으므로 중간에 실패해도 가져간 만큼은 DB에 반영한다.
+        List<Object[]> batchArgs = new ArrayList<>();
+        try {
+            for (String key : keys) {
+                Object totalViews = redisTemplate.opsForValue().getAndDelete(key);
+                if (totalViews instanceof Number number) {
+                    Long postId = Long.parseLong(key.substring(LEGACY_VIEWS_KEY_PREFIX.length()));
+                    batchArgs.add(new Object[]{number.longValue(), postId});
                 }
             }
-            redisTemplate.delete(keys);
+        } catch (RuntimeException e) {
+            log.warn("Failed to read legacy view counters: {}", e.getMessage());
+        }
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate("UPDATE Post SET views = GREATEST(views, ?) WHERE post_id = ?", batchArgs);
+            batchArgs.forEach(args -> getPostDetailCache().evict(args[1]));
+            log.info("Migrated legacy view counters of {} posts", batchArgs.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to migrate legacy view counters of {} posts: {}", batchArgs.size(), e.getMessage());
         }
     }
 
+    //댓글 수, 좋아요 수 카운터 보정
+    @Scheduled(cron = "0 30 5 * * ?")  //오전 5시 30분에 실행
+    @Transactional
+    public void reconcileCounts() {
+        int updated = postRepository.reconcileCounts();
+        log.info("Scheduled reconcileCounts: {} posts", updated);
+    }
+
     //글이 너무 많은 경우 비용이 너무 많이 든다. -> page와 size를 request로 받아 조회
     //public PagingResponse<PostListResponse> getList(PostPageRequest postPageRequest) {
     //    Page<Post> postPage = postRepository.getList(postPageRequest);
@@ -128,12 +252,47 @@ public class PostService {
     //게시글 검색 결과 조회
     public PagingResponse<PostListResponse> getList(PostSearch postSearch, PostPageRequest postPageRequest) {
         Page<PostListResponse> postPage = postRepository.getList(postSearch, postPageRequest);
+        overlayViews(postPage.getContent());
+
+        return new PagingResponse<>(postPage, PostListResponse.class);
+    }
 
-        for (PostListResponse postListResponse : postPage.getContent()) {
-            postListResponse.setViews(getViews(postListResponse.getId()));
+    //게시글 검색 결과 커서 기반 조회
+    public PagingResponse<PostListResponse> getListByCursor(PostSearch postSearch, PostPageRequest postPageRequest) {
+        Slice<PostListResponse> postSlice = postRepository.getListByCursor(postSearch, postPageRequest);
+
+        List<PostListResponse> posts = postSlice.getContent();
+        overlayViews(posts);
+
+        String nextCursor = null;
+        if (postSlice.hasNext()) {
+            nextCursor = PostCursor.from(posts.get(posts.size() - 1)).encode();
         }
 
-        return new PagingResponse<>(postPage, PostListResponse.class);
+        return new PagingResponse<>(postSlice, PostListResponse.class, nextCursor);
+    }
+
+    //한 페이지의 조회수 증가분을 MGET 한 번으로 조회해 목록 쿼리로 가져온 DB 조회수에 더한다.
+    private void overlayViews(List<PostListResponse> posts) {
+        if (posts.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = posts.stream()
+                .map(post -> VIEWS_KEY_PREFIX + post.getId())
+                .toList();
+        List<Object> pendingViews = redisTemplate.opsForValue().multiGet(keys);
+        if (pendingViews == null) {
+            return;
+        }
+
+        for (int i = 0; i < posts.size(); i++) {
+            Object views = pendingViews.get(i);
+            if (views != null) {
+                PostListResponse post = posts.get(i);
+                post.setViews(post.getViews() + ((Number) views).longValue());
+            }
+        }
     }
 
     public PostIdResponse getPrevPostId(Long postId) {
@@ -172,6 +331,7 @@ public class PostService {
         PostEditor postEditor = postEditorBuilder.build();
 
         post.edit(postEditor);
+        getPostDetailCache().evict(postId);
     }
 
     public void delete(Long postId, String email) {
@@ -182,6 +342,7 @@ public class PostService {
         validateWriter(memberId, email);
 
         postRepository.delete(post);
+        getPostDetailCache().evict(postId);
     }
 
     public void deleteByAdmin(Long postId, String email) {
@@ -193,11 +354,17 @@ public class PostService {
         boolean isAdmin = admin.getRole().toString().equals("ADMIN");
         if (isAdmin) {
             postRepository.delete(post);
+            getPostDetailCache().evict(postId);
         } else {
             throw new ForbiddenPostAccess();
         }
     }
 
+    //트랜잭션 안에서의 evict는 커밋 이후에 반영된다.
+    private Cache getPostDetailCache() {
+        return cacheManager.getCache(CacheNames.POST_DETAIL);
+    }
+
     private void validateWriter(Long memberId, String email) {
         Member member = memberRepository.findByEmail(email)
                 .orElseThrow(MemberNotFound::new);
@@ -1,21 +1,39 @@
 package com.dailog.api.service;
 
 import com.dailog.api.exception.InvalidRequest;
+import com.dailog.api.exception.stock.StockUnavailable;
 import com.dailog.api.response.stock.StockDetail;
 import com.dailog.api.response.stock.StockInfo;
 import com.dailog.api.response.stock.StockChart;
 import com.dailog.api.response.stock.StockSearch;
-import com.dailog.api.util.CsvUtil;
+import com.dailog.api.service.stock.Candle;
+import com.dailog.api.service.stock.CandleSeries;
+import com.dailog.api.service.stock.KisApiClient;
+import com.dailog.api.service.stock.KisEndpoint;
+import com.dailog.api.service.stock.KisQuote;
+import com.dailog.api.service.stock.KisResponseParser;
+import com.dailog.api.service.stock.KisTokenManager;
+import com.dailog.api.service.stock.MarketSession;
+import com.dailog.api.service.stock.MinuteBarBuffer;
+import com.dailog.api.service.stock.MinuteBarPage;
+import com.dailog.api.service.stock.MinuteBars;
+import com.dailog.api.service.stock.StockCandleStore;
+import com.dailog.api.service.stock.StockQuoteCache;
+import com.dailog.api.util.StockSymbolRegistry;
 import java.text.DecimalFormat;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.json.JSONArray;
-import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -23,58 +41,39 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class StockService {
 
-    private static final String API_URL = "https://openapi.koreainvestment.com:9443";
-    private final RestTemplate restTemplate;
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final CsvUtil csvUtil;
+    private static final String API_URL = KisApiClient.API_URL;
+
+    //캐시 TTL - 장중에는 짧게, 장 마감 후와 지난 기간의 시세는 길게
+    private static final Duration QUOTE_TTL_REGULAR = Duration.ofSeconds(5L);
+    private static final Duration QUOTE_TTL_EXTENDED = Duration.ofSeconds(15L);
+    private static final Duration CHART_TTL_OPEN = Duration.ofSeconds(30L);
+    private static final Duration TTL_CLOSED = Duration.ofMinutes(5L);
+    private static final Duration INFO_TTL = Duration.ofHours(12L);
+    private static final Duration CLOSED_HISTORY_TTL = Duration.ofDays(7L);
+    private static final int MINUTE_PAGE_SIZE = 120;  //분봉조회 한 번에 받을 수 있는 최대 개수
+    private static final DateTimeFormatter SEARCH_DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final KisApiClient kisApiClient;
+    private final KisResponseParser kisResponseParser;
+    private final KisTokenManager kisTokenManager;
+    private final StockSymbolRegistry stockSymbolRegistry;
+    private final StockQuoteCache stockQuoteCache;
+    private final StockCandleStore stockCandleStore;
+    private final MinuteBarBuffer minuteBarBuffer;
     @Value("${korea-investment.app-key}")
     private String appKey;
     @Value("${korea-investment.app-secret}")
     private String appSecret;
 
+    //접근 토큰이 없거나 만료가 가까우면 발급
     public void getAccessToken() {
-        String url = API_URL + "/oauth2/tokenP";
-
-        //JSON 바디 생성
-        JSONObject requestBody = new JSONObject();
-        requestBody.put("grant_type", "client_credentials");
-        requestBody.put("appkey", appKey);
-        requestBody.put("appsecret", appSecret);
-
-        //헤더 설정 (Content-Type: application/json)
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-
-        //JSON 바디와 헤더를 함께 HttpEntity에 담아서 요청
-        HttpEntity<String> entity = new HttpEntity<>(requestBody.toString(), headers);
-
-        try {
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.POST, entity, String.class);
-
-            //상태 코드 확인 후 성공 시 반환
-            if (response.getStatusCode() == HttpStatus.OK) {
-                JSONObject jsonResponse = new JSONObject(response.getBody());
-                String accessToken = jsonResponse.getString("access_token");
-                int expiresIn = jsonResponse.getInt("expires_in");
-                storeAccessToken(accessToken, expiresIn - 60);
-            } else {
-                log.info("Failed to get access token. Status code: {}", response.getStatusCode());
-            }
-        } catch (RestClientException e) {
-            log.info("Error occurred while fetching access token: {}", e.getMessage());
-        }
-    }
-
-    public void storeAccessToken(String token, int expiresIn) {
-        redisTemplate.opsForValue().set("accessToken", token, expiresIn, TimeUnit.SECONDS);
+        kisTokenManager.getToken();
     }
 
     /**
@@ -84,80 +83,58 @@ public class StockService {
      * @param ticker 주식 티커
      */
     public StockDetail getStockDetail(String ticker) {
-        String exchangeCode = csvUtil.getExchangeByTicker(ticker);
+        return getQuoteDetail(ticker).detail();
+    }
+
+    //응답용 문자열로 바꾸기 전의 숫자 값도 함께 캐시해서 진행 중인 일봉을 만들 때 사용
+    //캐시가 갱신되지 않았으면 같은 StockDetail 객체를 반환한다. (StockQuoteStreamer가 변경 여부 판단에 사용)
+    private QuoteDetail getQuoteDetail(String ticker) {
+        return stockQuoteCache.get("detail:" + ticker, quoteTtl(), () -> fetchStockDetail(ticker));
+    }
+
+    private record QuoteDetail(KisQuote quote, StockDetail detail) {
+    }
+
+    private QuoteDetail fetchStockDetail(String ticker) {
+        String exchangeCode = stockSymbolRegistry.getExchangeByTicker(ticker);
         String url = API_URL + "/uapi/overseas-price/v1/quotations/price-detail" +
                 "?AUTH=" + "&EXCD=" + exchangeCode + "&SYMB=" + ticker;
 
-        Object accessToken = getAccessTokenFromRedis();
+        String accessToken = kisTokenManager.getToken();
         HttpHeaders headers = getHttpHeaders(accessToken, "HHDFS76200200");
 
         HttpEntity<String> entity = new HttpEntity<>(headers);
 
-        try {
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
-
-            if (response.getStatusCode() == HttpStatus.OK) {
-                JSONObject jsonResponse = new JSONObject(response.getBody());
-                JSONObject output = jsonResponse.getJSONObject("output");
-
-                String last = output.getString("last");  //현재가
-                String base = output.getString("base");  //전일 종가
-
-                double lastPrice = Double.parseDouble(last);
-                String formattedLast = String.format("%.2f", lastPrice);
-                double basePrice = Double.parseDouble(base);
-                double diffValue = lastPrice - basePrice;
-                String diff = String.format("%.2f", diffValue);
-
-                double rateValue = (diffValue / basePrice) * 100;
-                String rate = String.format("%.2f", rateValue);
-
-                String marketCap = output.getString("tomv");  //시가총액
-                String formattedMarketCap = formatLargeNumber(marketCap);
-
-                String high52Weeks = output.getString("h52p");  //52주 최고가
-                String low52Weeks = output.getString("l52p");  //52주 최저가
-                double highDouble = Double.parseDouble(high52Weeks);
-                double lowDouble = Double.parseDouble(low52Weeks);
-                String formattedHigh = String.format("%.2f", highDouble);
-                String formattedLow = String.format("%.2f", lowDouble);
-
-                String high52WeeksDate = output.getString("h52d");  //52주 최고일자
-                String low52WeeksDate = output.getString("l52d");  //52주 최저일자
-                String per = output.getString("perx");  //PER
-                String pbr = output.getString("pbrx");  //PBR
-                String eps = output.getString("epsx");  //EPS
-                String bps = output.getString("bpsx");  //BPS
-                String totalShares = output.getString("shar");  //상장주수
-                DecimalFormat formatter = new DecimalFormat("#,###");
-                String formattedShares = formatter.format(Long.parseLong(totalShares));
-
-                String sector = output.getString("e_icod");  //업종
-
-                return StockDetail.builder()
-                        .last(formattedLast)
-                        .diff(diff)
-                        .rate(rate)
-                        .marketCap(formattedMarketCap)
-                        .high52Weeks(formattedHigh)
-                        .high52WeeksDate(high52WeeksDate)
-                        .low52Weeks(formattedLow)
-                        .low52WeeksDate(low52WeeksDate)
-                        .per(per)
-                        .pbr(pbr)
-                        .eps(eps)
-                        .bps(bps)
-                        .totalShares(formattedShares)
-                        .sector(sector)
-                        .build();
-            } else {
-                log.info("Failed to get stock data. Status code: {}", response.getStatusCode());
-                throw new InvalidRequest();
-            }
-        } catch (RestClientException e) {
-            log.error("Error occurred while fetching stock data: {}", e.getMessage());
+        ResponseEntity<String> response = kisApiClient.exchange(url, HttpMethod.GET, entity,
+                KisEndpoint.PRICE_DETAIL);
+        if (response.getStatusCode() != HttpStatus.OK) {
+            log.info("Failed to get stock data. Status code: {}", response.getStatusCode());
+            throw new StockUnavailable();
         }
-        throw new InvalidRequest();
+
+        KisQuote quote = kisResponseParser.parseQuote(response.getBody());
+
+        double diffValue = quote.last() - quote.base();
+        double rateValue = (diffValue / quote.base()) * 100;
+        DecimalFormat formatter = new DecimalFormat("#,###");
+
+        StockDetail detail = StockDetail.builder()
+                .last(String.format("%.2f", quote.last()))
+                .diff(String.format("%.2f", diffValue))
+                .rate(String.format("%.2f", rateValue))
+                .marketCap(formatLargeNumber(quote.marketCap()))
+                .high52Weeks(String.format("%.2f", quote.high52Weeks()))
+                .high52WeeksDate(quote.high52WeeksDate())
+                .low52Weeks(String.format("%.2f", quote.low52Weeks()))
+                .low52WeeksDate(quote.low52WeeksDate())
+                .per(quote.per())
+                .pbr(quote.pbr())
+                .eps(quote.eps())
+                .bps(quote.bps())
+                .totalShares(formatter.format(quote.totalShares()))
+                .sector(quote.sector())
+                .build();
+        return new QuoteDetail(quote, detail);
     }
 
     /**
@@ -166,7 +143,11 @@ public class StockService {
      * @return 국가, 거래소 코드, 회사명
      */
     public StockInfo getStockInfo(String ticker) {
-        String exchangeCode = csvUtil.getExchangeByTicker(ticker);
+        return stockQuoteCache.get("info:" + ticker, INFO_TTL, () -> fetchStockInfo(ticker));
+    }
+
+    private StockInfo fetchStockInfo(String ticker) {
+        String exchangeCode = stockSymbolRegistry.getExchangeByTicker(ticker);
         String typeCode = switch (exchangeCode) {
             case "NAS" -> "512";
             case "NYS" -> "513";
@@ -176,36 +157,20 @@ public class StockService {
         String url = API_URL + "/uapi/overseas-price/v1/quotations/search-info" +
                 "?PRDT_TYPE_CD=" + typeCode + "&PDNO=" + ticker;
 
-        Object accessToken = getAccessTokenFromRedis();
+        String accessToken = kisTokenManager.getToken();
         HttpHeaders headers = getHttpHeaders(accessToken, "CTPF1702R");
         headers.set("custtype", "P");
 
         HttpEntity<String> entity = new HttpEntity<>(headers);
 
-        try {
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
-
-            if (response.getStatusCode() == HttpStatus.OK) {
-                JSONObject jsonResponse = new JSONObject(response.getBody());
-                JSONObject output = jsonResponse.getJSONObject("output");
-
-                String country = output.getString("natn_name");
-                String market = output.getString("tr_mket_name");
-                String name = output.getString("prdt_name");
-
-                return StockInfo.builder()
-                        .country(country)
-                        .market(market)
-                        .name(name)
-                        .build();
-            } else {
-                log.info("Failed to get stock data. Status code: {}", response.getStatusCode());
-                throw new InvalidRequest();
-            }
-        } catch (RestClientException e) {
-            log.error("Error occurred while fetching stock data: {}", e.getMessage());
+        ResponseEntity<String> response = kisApiClient.exchange(url, HttpMethod.GET, entity,
+                KisEndpoint.SEARCH_INFO);
+        if (response.getStatusCode() != HttpStatus.OK) {
+            log.info("Failed to get stock data. Status code: {}", response.getStatusCode());
+            throw new StockUnavailable();
         }
-        throw new InvalidRequest();
+
+        return kisResponseParser.parseStockInfo(response.getBody());
     }
 
 
@@ -216,164 +181,254 @@ public class StockService {
      * @param searchDate 조회기준일자
      */
     public List<StockChart> getStockHistory(String ticker, String dateType, String searchDate) {
-        String exchangeCode = csvUtil.getExchangeByTicker(ticker);
+        return getStockHistorySeries(ticker, dateType, searchDate).getStockCharts();
+    }
+
+    //차트 응답 형식(StockChart 목록, 열 단위)은 CandleSeries에서 변환
+    public CandleSeries getStockHistorySeries(String ticker, String dateType, String searchDate) {
+        String key = "history:" + ticker + ":" + dateType + ":" + searchDate;
+        return stockQuoteCache.get(key, historyTtl(dateType, searchDate),
+                () -> CandleSeries.daily(loadStockHistory(ticker, dateType, searchDate)));
+    }
+
+    //마감된 기간은 저장된 봉으로 응답하고, 증권사 API에서 받은 응답은 마감된 봉만 저장
+    private List<Candle> loadStockHistory(String ticker, String dateType, String searchDate) {
+        if (isClosedPeriod(dateType, searchDate)) {
+            Optional<List<Candle>> storedCandles =
+                    stockCandleStore.find(ticker, dateType, parseSearchDate(searchDate));
+            if (storedCandles.isPresent()) {
+                return storedCandles.get();
+            }
+        }
+
+        boolean latest = searchDate == null || searchDate.isBlank();
+        if (latest) {
+            Optional<List<Candle>> latestCandles = findLatestStockHistory(ticker, dateType);
+            if (latestCandles.isPresent()) {
+                return latestCandles.get();
+            }
+        }
+
+        List<Candle> candles = fetchStockHistory(ticker, dateType, searchDate);
+        try {
+            if (latest) {
+                stockCandleStore.saveLatest(ticker, dateType, candles, currentPeriodStart(dateType));
+            } else {
+                stockCandleStore.save(ticker, dateType, candles, currentPeriodStart(dateType));
+            }
+        } catch (RuntimeException e) {
+            //저장은 다음 조회 때 다시 시도하면 되므로 응답은 그대로 반환
+            log.warn("Failed to store stock candles of {}: {}", ticker, e.getMessage());
+        }
+        return candles;
+    }
+
+    /**
+     * 기준일 없는 조회는 기간이 바뀐 뒤 처음 한 번만 증권사 API에서 100개를 받는다.
+     * 이후에는 마감된 봉을 저장소에서 읽고, 진행 중인 봉만 만들어 붙인다.
+     * 일봉: 캐시된 현재가 상세 / 주·월봉: 최신 일봉 중 이번 기간의 봉
+     */
+    private Optional<List<Candle>> findLatestStockHistory(String ticker, String dateType) {
+        Optional<List<Candle>> closedCandles =
+                stockCandleStore.findLatest(ticker, dateType, currentPeriodStart(dateType));
+        if (closedCandles.isEmpty() || closedCandles.get().isEmpty()) {
+            return Optional.empty();
+        }
+
+        Candle previous = closedCandles.get().get(0);
+        Optional<Candle> openCandle;
+        try {
+            openCandle = "0".equals(dateType)
+                    ? findTodayCandle(ticker, previous)
+                    : aggregateOpenPeriod(ticker, dateType, previous);
+        } catch (RuntimeException e) {
+            //진행 중인 봉을 만들지 못하면 기간별 시세 API로 한 번에 받는다.
+            log.warn("Failed to build open candle of {}: {}", ticker, e.getMessage());
+            return Optional.empty();
+        }
+        if (openCandle.isEmpty()) {
+            return closedCandles;
+        }
+
+        List<Candle> candles = new ArrayList<>(StockCandleStore.WINDOW_SIZE);
+        candles.add(openCandle.get());
+        candles.addAll(closedCandles.get().subList(0,
+                Math.min(closedCandles.get().size(), StockCandleStore.WINDOW_SIZE - 1)));
+        return Optional.of(candles);
+    }
+
+    //정규장이 시작된 뒤에만 오늘 봉이 있다.
+    //휴장일에는 현재가가 직전 거래일 값이므로 거래량이 마지막 마감 봉과 같으면 오늘 봉으로 보지 않는다.
+    private Optional<Candle> findTodayCandle(String ticker, Candle previous) {
+        ZonedDateTime now = ZonedDateTime.now(MarketSession.MARKET_ZONE);
+        if (!MarketSession.isRegularSessionStarted(now)) {
+            return Optional.empty();
+        }
+
+        KisQuote quote = getQuoteDetail(ticker).quote();
+        if (quote.volume() == previous.volume()) {
+            return Optional.empty();
+        }
+        double diff = quote.last() - quote.base();
+        double rate = quote.base() == 0.0 ? 0.0 : diff / quote.base() * 100;
+        return Optional.of(new Candle(now.toLocalDate().format(SEARCH_DATE_FORMAT), quote.open(), quote.high(),
+                quote.low(), quote.last(), diff, rate, quote.volume()));
+    }
+
+    //최신 일봉 중 이번 주/월의 봉을 합쳐서 진행 중인 주/월봉을 만든다. (일봉은 최신 -> 과거 순)
+    private Optional<Candle> aggregateOpenPeriod(String ticker, String dateType, Candle previous) {
+        String periodStart = currentPeriodStart(dateType).format(SEARCH_DATE_FORMAT);
+        List<Candle> days = getStockHistorySeries(ticker, "0", "").getCandles().stream()
+                .filter(candle -> candle.date().compareTo(periodStart) >= 0)
+                .toList();
+        if (days.isEmpty()) {
+            return Optional.empty();
+        }
+
+        double high = days.stream().mapToDouble(Candle::high).max().getAsDouble();
+        double low = days.stream().mapToDouble(Candle::low).min().getAsDouble();
+        long volume = days.stream().mapToLong(Candle::volume).sum();
+        double close = days.get(0).close();
+        double diff = close - previous.close();
+        double rate = previous.close() == 0.0 ? 0.0 : diff / previous.close() * 100;
+        return Optional.of(new Candle(days.get(0).date(), days.get(days.size() - 1).open(), high, low, close,
+                diff, rate, volume));
+    }
+
+    private List<Candle> fetchStockHistory(String ticker, String dateType, String searchDate) {
+        String exchangeCode = stockSymbolRegistry.getExchangeByTicker(ticker);
         String url = API_URL + "/uapi/overseas-price/v1/quotations/dailyprice" +
                 "?AUTH=" + "&EXCD=" + exchangeCode + "&SYMB=" + ticker + "&GUBN=" + dateType +
                 "&BYMD=" + searchDate + "&MODP=1";
 
-        Object accessToken = getAccessTokenFromRedis();
+        String accessToken = kisTokenManager.getToken();
         HttpHeaders headers = getHttpHeaders(accessToken, "HHDFS76240000");
 
         HttpEntity<String> entity = new HttpEntity<>(headers);
 
-        try {
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
-
-            if (response.getStatusCode() == HttpStatus.OK) {
-                JSONObject jsonResponse = new JSONObject(response.getBody());
-                JSONArray jsonArray = jsonResponse.getJSONArray("output2");
-
-                List<StockChart> stockCharts = new ArrayList<>();
-                jsonArray.forEach(item -> {
-                    JSONObject stockData = (JSONObject) item;
-
-                    String date = stockData.getString("xymd");  //일자(YYYYMMDD)
-                    String diff = stockData.getString("diff");  //전일과 종가 차이
-                    String volume = stockData.getString("tvol");  //거래량
-
-                    String open = String.format("%.2f", Float.parseFloat(stockData.getString("open")));
-                    String close = String.format("%.2f", Float.parseFloat(stockData.getString("clos")));
-                    String high = String.format("%.2f", Float.parseFloat(stockData.getString("high")));
-                    String low = String.format("%.2f", Float.parseFloat(stockData.getString("low")));
-                    String rate = String.format("%.2f", Float.parseFloat(stockData.getString("rate")));
-
-                    StockChart stockChart = StockChart.builder()
-                            .date(date)
-                            .open(open)
-                            .close(close)
-                            .high(high)
-                            .low(low)
-                            .diff(diff)
-                            .rate(rate)
-                            .volume(volume)
-                            .build();
-                    stockCharts.add(stockChart);
-                });
-                return stockCharts;
-            } else {
-                log.info("Failed to get stock data. Status code: {}", response.getStatusCode());
-                throw new InvalidRequest();
-            }
-        } catch (RestClientException e) {
-            log.error("Error occurred while fetching stock data: {}", e.getMessage());
+        ResponseEntity<String> response = kisApiClient.exchange(url, HttpMethod.GET, entity,
+                KisEndpoint.DAILY_PRICE);
+        if (response.getStatusCode() != HttpStatus.OK) {
+            log.info("Failed to get stock data. Status code: {}", response.getStatusCode());
+            throw new StockUnavailable();
         }
-        throw new InvalidRequest();
+
+        return kisResponseParser.parseDailyCandles(response.getBody());
     }
 
     /**
-     * 해외주식 기간별 시세 API
+     * 해외주식 분봉 시세
+     * 1분봉 버퍼를 갱신하고 요청한 분 단위로 모아서 반환한다.
+     * 버퍼로 100개를 채울 수 없는 넓은 분 단위(기본 1200개 기준 15분 이상)는 해당 분 단위로 직접 조회한다.
      * @param ticker 주식 티커
-     * @param intervalMinutes 분단위(1: 1분봉, 2: 2분봉, ...)
+     * @param intervalMinutes 분단위(1: 1분봉, 5: 5분봉, ...), 1시간을 나누어떨어져야 한다.
      */
     public List<StockChart> getStockPriceByMinutes(String ticker, String intervalMinutes) {
-        String exchangeCode = csvUtil.getExchangeByTicker(ticker);
-        String url = API_URL + "/uapi/overseas-price/v1/quotations/inquire-time-indexchartprice" +
+        return getMinuteSeries(ticker, intervalMinutes).getStockCharts();
+    }
+
+    public CandleSeries getMinuteSeries(String ticker, String intervalMinutes) {
+        int interval = parseIntervalMinutes(intervalMinutes);
+        if (!minuteBarBuffer.covers(interval)) {
+            return stockQuoteCache.get("minutes:" + ticker + ":" + interval, chartTtl(),
+                    () -> CandleSeries.minutes(fetchMinutePage(ticker, interval, "", MinuteBars.CHART_SIZE)
+                            .candles()));
+        }
+        MinuteBars minuteBars = stockQuoteCache.get("minutes:" + ticker, chartTtl(),
+                () -> minuteBarBuffer.refresh(ticker,
+                        nextKey -> fetchMinutePage(ticker, 1, nextKey, MINUTE_PAGE_SIZE)));
+        return minuteBars.getSeries(interval);
+    }
+
+    private int parseIntervalMinutes(String intervalMinutes) {
+        try {
+            int interval = Integer.parseInt(intervalMinutes);
+            if (MinuteBars.isSupportedInterval(interval)) {
+                return interval;
+            }
+        } catch (NumberFormatException e) {
+            //아래에서 InvalidRequest
+        }
+        throw new InvalidRequest("intervalMinutes", "1시간을 나누어떨어지는 분 단위로 입력해 주세요.");
+    }
+
+    //분봉 한 페이지, nextKey가 비어 있으면 최신 분봉부터 조회
+    private MinuteBarPage fetchMinutePage(String ticker, int intervalMinutes, String nextKey, int records) {
+        String exchangeCode = stockSymbolRegistry.getExchangeByTicker(ticker);
+        String url = API_URL + "/uapi/overseas-price/v1/quotations/inquire-time-itemchartprice" +
                 "?AUTH=" + "&EXCD=" + exchangeCode + "&SYMB=" + ticker + "&NMIN=" + intervalMinutes + "&PINC=1" +
-                "&NEXT=" + "&NREC=100" + "&FILL=" + "&KEYB=";
+                "&NEXT=" + (nextKey.isEmpty() ? "" : "1") + "&NREC=" + records + "&FILL=" +
+                "&KEYB=" + nextKey;
 
-        Object accessToken = getAccessTokenFromRedis();
+        String accessToken = kisTokenManager.getToken();
         HttpHeaders headers = getHttpHeaders(accessToken, "HHDFS76950200");
 
         HttpEntity<String> entity = new HttpEntity<>(headers);
 
-        try {
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
-
-            if (response.getStatusCode() == HttpStatus.OK) {
-                JSONObject jsonResponse = new JSONObject(response.getBody());
-                JSONArray jsonArray = jsonResponse.getJSONArray("output2");
-
-                List<StockChart> stockCharts = new ArrayList<>();
-                jsonArray.forEach(item -> {
-                    JSONObject stockData = (JSONObject) item;
-
-                    String date = stockData.getString("kymd");
-                    String time = stockData.getString("khms");
-
-                    String open = String.format("%.2f", Float.parseFloat(stockData.getString("open")));
-                    String close = String.format("%.2f", Float.parseFloat(stockData.getString("last")));
-                    String high = String.format("%.2f", Float.parseFloat(stockData.getString("high")));
-                    String low = String.format("%.2f", Float.parseFloat(stockData.getString("low")));
-
-                    StockChart stockChart = StockChart.builder()
-                            .date(date + time)
-                            .open(open)
-                            .close(close)
-                            .high(high)
-                            .low(low)
-                            .build();
-                    stockCharts.add(stockChart);
-                });
-                return stockCharts;
-            } else {
-                log.info("Failed to get stock data. Status code: {}", response.getStatusCode());
-                throw new InvalidRequest();
-            }
-        } catch (RestClientException e) {
-            log.error("Error occurred while fetching stock data: {}", e.getMessage());
+        ResponseEntity<String> response = kisApiClient.exchange(url, HttpMethod.GET, entity,
+                KisEndpoint.MINUTE_PRICE);
+        if (response.getStatusCode() != HttpStatus.OK) {
+            log.info("Failed to get stock data. Status code: {}", response.getStatusCode());
+            throw new StockUnavailable();
         }
-        throw new InvalidRequest();
+
+        return kisResponseParser.parseMinutePage(response.getBody());
     }
 
     public List<StockSearch> searchTickers(String searchQuery) {
-        return csvUtil.searchTickers(searchQuery.toUpperCase()).stream()
+        return stockSymbolRegistry.search(searchQuery.toUpperCase()).stream()
                 .map(stock -> StockSearch.builder()
-                        .ticker(stock.get(0))
-                        .exchange(stock.get(1))
-                        .name(stock.get(2))
+                        .ticker(stock.ticker())
+                        .exchange(stock.exchange())
+                        .name(stock.name())
                         .build())
                 .toList();
     }
 
-    private Object getAccessTokenFromRedis() {
-        Object accessToken = redisTemplate.opsForValue().get("accessToken");
-
-        if (accessToken == null) {
-            //토큰 발급 시 중복 요청을 방지하기 위한 동기화 블록
-            synchronized (this) {
-                accessToken = redisTemplate.opsForValue().get("accessToken");
-                if (accessToken == null) {
-                    log.info("Access token not found. Fetching new token.");
-                    getAccessToken();
-                    accessToken = redisTemplate.opsForValue().get("accessToken");
-                }
-            }
-        }
+    private Duration quoteTtl() {
+        return switch (MarketSession.of(ZonedDateTime.now())) {
+            case REGULAR -> QUOTE_TTL_REGULAR;
+            case PRE_MARKET, AFTER_HOURS -> QUOTE_TTL_EXTENDED;
+            case CLOSED -> TTL_CLOSED;
+        };
+    }
 
-        if (accessToken == null) {
-            throw new InvalidRequest();
-        }
+    private Duration chartTtl() {
+        return MarketSession.of(ZonedDateTime.now()).isOpen() ? CHART_TTL_OPEN : TTL_CLOSED;
+    }
+
+    //기준일이 현재 일/주/월 이전이면 조회되는 봉이 모두 마감된 것이므로 바뀌지 않는다.
+    private Duration historyTtl(String dateType, String searchDate) {
+        return isClosedPeriod(dateType, searchDate) ? CLOSED_HISTORY_TTL : chartTtl();
+    }
+
+    private boolean isClosedPeriod(String dateType, String searchDate) {
+        LocalDate baseDate = parseSearchDate(searchDate);
+        return baseDate != null && baseDate.isBefore(currentPeriodStart(dateType));
+    }
 
-        return accessToken;
+    private LocalDate parseSearchDate(String searchDate) {
+        if (searchDate == null || searchDate.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(searchDate, SEARCH_DATE_FORMAT);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
     }
 
+    //아직 마감되지 않은 일/주/월봉의 시작일
+    private LocalDate currentPeriodStart(String dateType) {
+        LocalDate today = LocalDate.now(MarketSession.MARKET_ZONE);
+        return switch (dateType) {
+            case "1" -> today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case "2" -> today.withDayOfMonth(1);
+            default -> today;
+        };
+    }
 
-    //private Object getAccessTokenFromRedis() {
-    //    Object accessToken = redisTemplate.opsForValue().get("accessToken");
-    //    if (accessToken == null) {
-    //        log.info("Access token not found. Fetching new token.");
-    //        getAccessToken();
-    //        accessToken = redisTemplate.opsForValue().get("accessToken");
-    //    }
-    //
-    //    if (accessToken == null) {
-    //        throw new InvalidRequest();
-    //    }
-    //
-    //    return accessToken;
-    //}
-
-    private HttpHeaders getHttpHeaders(Object accessToken, String tradingId) {
+    private HttpHeaders getHttpHeaders(String accessToken, String tradingId) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         headers.set("authorization", "Bearer " + accessToken);
@@ -383,11 +438,10 @@ public class StockService {
         return headers;
     }
 
-    public String formatLargeNumber(String strNumber) {
+    public String formatLargeNumber(long number) {
         long TRILLION = 1_000_000_000_000L;
         long BILLION = 1_000_000_000L;
         long MILLION = 1_000_000L;
-        long number = Long.parseLong(strNumber);
         if (number >= TRILLION) {
             return String.format("%.2fT", number / (double) TRILLION);
         } else if (number >= BILLION) {
@@ -0,0 +1,44 @@
+package com.dailog.api.service.stock;
+
+import com.dailog.api.response.stock.StockChart;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 증권사 API에서 받은 봉 하나, 숫자 필드는 파싱된 값으로 보관한다.
+ * @param date 일봉은 YYYYMMDD, 분봉은 YYYYMMDDHHMMSS (한국 시간)
+ * @param diff 전일과 종가 차이 (분봉은 0)
+ * @param rate 등락율 (분봉은 0)
+ * @param volume 거래량 (분봉은 체결량)
+ */
+public record Candle(String date, double open, double high, double low, double close, double diff, double rate,
+                     long volume) {
+
+    public StockChart toDailyChart() {
+        return StockChart.builder()
+                .date(date)
+                .open(formatPrice(open))
+                .close(formatPrice(close))
+                .high(formatPrice(high))
+                .low(formatPrice(low))
+                .diff(formatPrice(diff))
+                .rate(formatPrice(rate))
+                .volume(String.valueOf(volume))
+                .build();
+    }
+
+    public StockChart toMinuteChart() {
+        return StockChart.builder()
+                .date(date)
+                .open(formatPrice(open))
+                .close(formatPrice(close))
+                .high(formatPrice(high))
+                .low(formatPrice(low))
+                .build();
+    }
+
+    //String.format("%.2f")와 같은 결과 (소수점 둘째 자리 반올림)
+    static String formatPrice(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP).toPlainString();
+    }
+}
@@ -0,0 +1,93 @@
+package com.dailog.api.service.stock;
+
+import com.dailog.api.response.stock.StockChart;
+import com.dailog.api.response.stock.StockChartColumns;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 캐시에 저장되는 봉 목록
+ * 응답 형식(StockChart, StockChartColumns)으로의 변환은 처음 요청될 때 한 번만 하고 이후에는 재사용한다.
+ */
+public final class CandleSeries {
+
+    private final List<Candle> candles;
+    private final boolean daily;
+    private volatile List<StockChart> stockCharts;
+    private volatile StockChartColumns columns;
+
+    private CandleSeries(List<Candle> candles, boolean daily) {
+        this.candles = List.copyOf(candles);
+        this.daily = daily;
+    }
+
+    public static CandleSeries daily(List<Candle> candles) {
+        return new CandleSeries(candles, true);
+    }
+
+    public static CandleSeries minutes(List<Candle> candles) {
+        return new CandleSeries(candles, false);
+    }
+
+    public List<Candle> getCandles() {
+        return candles;
+    }
+
+    public List<StockChart> getStockCharts() {
+        List<StockChart> charts = stockCharts;
+        if (charts == null) {
+            //동시에 변환되더라도 결과가 같으므로 잠그지 않는다.
+            charts = candles.stream()
+                    .map(candle -> daily ? candle.toDailyChart() : candle.toMinuteChart())
+                    .toList();
+            stockCharts = charts;
+        }
+        return charts;
+    }
+
+    public StockChartColumns getColumns() {
+        StockChartColumns result = columns;
+        if (result == null) {
+            result = toColumns();
+            columns = result;
+        }
+        return result;
+    }
+
+    private StockChartColumns toColumns() {
+        int size = candles.size();
+        List<String> dates = new ArrayList<>(size);
+        double[] open = new double[size];
+        double[] close = new double[size];
+        double[] high = new double[size];
+        double[] low = new double[size];
+        double[] diff = daily ? new double[size] : null;
+        double[] rate = daily ? new double[size] : null;
+        long[] volume = new long[size];
+
+        for (int i = 0; i < size; i++) {
+            Candle candle = candles.get(i);
+            dates.add(candle.date());
+            open[i] = candle.open();
+            close[i] = candle.close();
+            high[i] = candle.high();
+            low[i] = candle.low();
+            if (daily) {
+                diff[i] = candle.diff();
+                rate[i] = candle.rate();
+            }
+            volume[i] = candle.volume();
+        }
+
+        return StockChartColumns.builder()
+                .dates(dates)
+                .open(open)
+                .close(close)
+                .high(high)
+                .low(low)
+                .diff(diff)
+                .rate(rate)
+                .volume(volume)
+                .build();
+    }
+}
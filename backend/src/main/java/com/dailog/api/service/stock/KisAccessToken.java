@@ -0,0 +1,8 @@
+package com.dailog.api.service.stock;
+
+/**
+ * 접근 토큰 발급 API 응답
+ * @param expiresIn 유효기간 (초)
+ */
+public record KisAccessToken(String token, long expiresIn) {
+}
@@ -0,0 +1,98 @@
+package com.dailog.api.service.stock;
+
+import com.dailog.api.exception.stock.StockRateLimited;
+import com.dailog.api.exception.stock.StockUnavailable;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 한국투자증권 API 호출은 모두 이 클래스를 거친다.
+ * 엔드포인트별 서킷 브레이커가 열려 있으면 바로 실패(503)하고,
+ * 엔드포인트별 동시 호출 수(벌크헤드)를 넘으면 바로 거절(429)해서 느린 엔드포인트가 stockExecutor 스레드를 모두 잡지 않게 한다.
+ */
+@Slf4j
+@Component
+public class KisApiClient {
+
+    public static final String API_URL = "https://openapi.koreainvestment.com:9443";
+
+    private final RestTemplate restTemplate;
+    private final KisRateLimiter kisRateLimiter;
+    private final Map<KisEndpoint, KisCircuitBreaker> circuitBreakers = new EnumMap<>(KisEndpoint.class);
+    private final Map<KisEndpoint, Semaphore> bulkheads = new EnumMap<>(KisEndpoint.class);
+
+    public KisApiClient(RestTemplate restTemplate,
+                        KisRateLimiter kisRateLimiter,
+                        MeterRegistry meterRegistry,
+                        @Value("${stock.resilience.failure-rate-threshold:50}") double failureRateThreshold,
+                        @Value("${stock.resilience.minimum-calls:10}") int minimumCalls,
+                        @Value("${stock.resilience.window-size:20}") int windowSize,
+                        @Value("${stock.resilience.open-duration-ms:30000}") long openDurationMillis,
+                        @Value("${stock.resilience.max-concurrent-calls:8}") int maxConcurrentCalls) {
+        this.restTemplate = restTemplate;
+        this.kisRateLimiter = kisRateLimiter;
+        for (KisEndpoint endpoint : KisEndpoint.values()) {
+            circuitBreakers.put(endpoint, new KisCircuitBreaker(endpoint.name(), failureRateThreshold, minimumCalls,
+                    windowSize, Duration.ofMillis(openDurationMillis), Clock.systemUTC(), meterRegistry));
+            bulkheads.put(endpoint, new Semaphore(maxConcurrentCalls));
+        }
+    }
+
+    public ResponseEntity<String> exchange(String url, HttpMethod method, HttpEntity<?> entity,
+                                           KisEndpoint endpoint) {
+        KisCircuitBreaker circuitBreaker = circuitBreakers.get(endpoint);
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw new StockUnavailable();
+        }
+
+        Semaphore bulkhead = bulkheads.get(endpoint);
+        if (!bulkhead.tryAcquire()) {
+            circuitBreaker.releasePermission();
+            throw new StockRateLimited();
+        }
+
+        boolean recorded = false;
+        try {
+            kisRateLimiter.acquire(endpoint.getPriority());
+            ResponseEntity<String> response = restTemplate.exchange(url, method, entity, String.class);
+            circuitBreaker.onSuccess();
+            recorded = true;
+            return response;
+        } catch (HttpClientErrorException e) {
+            //4xx는 요청 문제이고 증권사 API는 응답했으므로 실패로 세지 않는다.
+            circuitBreaker.onSuccess();
+            recorded = true;
+            log.error("Error occurred while calling {}: {}", endpoint, e.getMessage());
+            throw new StockUnavailable(e);
+        } catch (RestClientException e) {
+            //연결 실패, 타임아웃, 5xx만 차단 기준에 포함
+            circuitBreaker.onFailure();
+            recorded = true;
+            log.error("Error occurred while calling {}: {}", endpoint, e.getMessage());
+            throw new StockUnavailable(e);
+        } finally {
+            //호출 제한으로 거절되는 등 증권사 API를 호출하지 못한 경우
+            if (!recorded) {
+                circuitBreaker.releasePermission();
+            }
+            bulkhead.release();
+        }
+    }
+
+    public KisCircuitBreaker.State getCircuitState(KisEndpoint endpoint) {
+        return circuitBreakers.get(endpoint).getState();
+    }
+}
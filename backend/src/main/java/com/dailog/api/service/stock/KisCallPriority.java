@@ -0,0 +1,10 @@
+package com.dailog.api.service.stock;
+
+/**
+ * 증권사 API 호출 우선순위, 앞에 있을수록 먼저 호출 (토큰 발급과 현재가 > 차트, 기본정보)
+ */
+public enum KisCallPriority {
+
+    QUOTE,
+    HISTORY
+}
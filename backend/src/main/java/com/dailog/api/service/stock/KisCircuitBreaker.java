@@ -0,0 +1,139 @@
+package com.dailog.api.service.stock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 엔드포인트별 서킷 브레이커
+ * 최근 windowSize번의 호출 중 실패 비율이 기준을 넘으면 열고(OPEN), openDuration 동안 호출하지 않고 바로 실패한다.
+ * 이후 한 번만 시험 호출(HALF_OPEN)해서 성공하면 닫고, 실패하면 다시 연다.
+ */
+public class KisCircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final Duration openDuration;
+    private final Clock clock;
+    private final Counter rejected;
+
+    //최근 호출 결과 (true: 실패)
+    private final boolean[] window;
+    private int windowIndex;
+    private int callCount;
+    private int failureCount;
+
+    private State state = State.CLOSED;
+    private Instant openedAt;
+    private boolean probing;
+
+    public KisCircuitBreaker(String name, double failureRateThreshold, int minimumCalls, int windowSize,
+                             Duration openDuration, Clock clock, MeterRegistry meterRegistry) {
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = minimumCalls;
+        this.openDuration = openDuration;
+        this.clock = clock;
+        this.window = new boolean[windowSize];
+        this.rejected = Counter.builder("stock.circuit.rejected")
+                .tag("endpoint", name)
+                .register(meterRegistry);
+        //0: CLOSED, 1: OPEN, 2: HALF_OPEN
+        Gauge.builder("stock.circuit.state", this, circuitBreaker -> circuitBreaker.getState().ordinal())
+                .tag("endpoint", name)
+                .register(meterRegistry);
+    }
+
+    //false면 호출하지 않고 바로 실패, true면 호출 후 onSuccess/onFailure/releasePermission 중 하나를 호출해야 한다.
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (clock.instant().isBefore(openedAt.plus(openDuration))) {
+                rejected.increment();
+                return false;
+            }
+            state = State.HALF_OPEN;
+            probing = false;
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (probing) {
+                rejected.increment();
+                return false;
+            }
+            probing = true;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            close();
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (callCount >= minimumCalls && failureCount * 100.0 / callCount >= failureRateThreshold) {
+                open();
+            }
+        }
+    }
+
+    //성공/실패로 셀 수 없는 이유(호출 전 거절 등)로 끝난 경우
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN) {
+            probing = false;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (callCount == window.length) {
+            if (window[windowIndex]) {
+                failureCount--;
+            }
+        } else {
+            callCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            failureCount++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = clock.instant();
+        probing = false;
+        resetWindow();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        probing = false;
+        resetWindow();
+    }
+
+    private void resetWindow() {
+        windowIndex = 0;
+        callCount = 0;
+        failureCount = 0;
+    }
+}
@@ -0,0 +1,22 @@
+package com.dailog.api.service.stock;
+
+/**
+ * 한국투자증권 API 엔드포인트, 서킷 브레이커와 벌크헤드는 엔드포인트별로 따로 둔다.
+ */
+public enum KisEndpoint {
+    TOKEN(KisCallPriority.QUOTE),  //접근 토큰 발급
+    PRICE_DETAIL(KisCallPriority.QUOTE),  //현재가 상세
+    SEARCH_INFO(KisCallPriority.HISTORY),  //상품기본정보
+    DAILY_PRICE(KisCallPriority.HISTORY),  //기간별 시세
+    MINUTE_PRICE(KisCallPriority.HISTORY);  //분봉
+
+    private final KisCallPriority priority;
+
+    KisEndpoint(KisCallPriority priority) {
+        this.priority = priority;
+    }
+
+    public KisCallPriority getPriority() {
+        return priority;
+    }
+}
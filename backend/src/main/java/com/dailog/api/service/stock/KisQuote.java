@@ -0,0 +1,10 @@
+package com.dailog.api.service.stock;
+
+/**
+ * 해외주식 현재가 상세 API 응답
+ * PER, PBR, EPS, BPS는 계산 없이 그대로 응답하므로 문자열로 보관한다.
+ */
+public record KisQuote(double open, double high, double low, double last, double base, long volume, long marketCap, double high52Weeks, String high52WeeksDate,
+                       double low52Weeks, String low52WeeksDate, String per, String pbr, String eps, String bps,
+                       long totalShares, String sector) {
+}
@@ -0,0 +1,131 @@
+package com.dailog.api.service.stock;
+
+import com.dailog.api.exception.stock.StockRateLimited;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 증권사 API 초당 호출 제한을 지키기 위한 토큰 버킷
+ * 토큰이 없으면 대기하고, 대기 중인 요청은 우선순위가 높은 것부터 토큰을 받는다.
+ * 대기열이 가득 찼거나 최대 대기 시간을 넘기면 StockRateLimited
+ */
+@Component
+public class KisRateLimiter {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition tokenReleased = lock.newCondition();
+
+    private final double permitsPerNano;
+    private final double burst;
+    private final int maxQueueSize;
+    private final long maxWaitNanos;
+
+    private final int[] waiting = new int[KisCallPriority.values().length];
+    private int totalWaiting;
+    private double tokens;
+    private long lastRefillNanos;
+
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    public KisRateLimiter(@Value("${stock.rate-limit.permits-per-second:15}") double permitsPerSecond,
+                          @Value("${stock.rate-limit.burst:15}") int burst,
+                          @Value("${stock.rate-limit.max-queue-size:100}") int maxQueueSize,
+                          @Value("${stock.rate-limit.max-wait-ms:3000}") long maxWaitMillis,
+                          MeterRegistry meterRegistry) {
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1L);
+        this.burst = burst;
+        this.maxQueueSize = maxQueueSize;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.tokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+
+        this.waitTimer = Timer.builder("stock.rate_limit.wait")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("stock.rate_limit.rejected")
+                .register(meterRegistry);
+        Gauge.builder("stock.rate_limit.queue", this, KisRateLimiter::getQueueDepth)
+                .register(meterRegistry);
+    }
+
+    public void acquire(KisCallPriority priority) {
+        long start = System.nanoTime();
+        lock.lock();
+        try {
+            if (totalWaiting >= maxQueueSize) {
+                rejected.increment();
+                throw new StockRateLimited();
+            }
+
+            waiting[priority.ordinal()]++;
+            totalWaiting++;
+            try {
+                awaitToken(priority, start + maxWaitNanos);
+            } finally {
+                waiting[priority.ordinal()]--;
+                totalWaiting--;
+                tokenReleased.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+        waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    public int getQueueDepth() {
+        lock.lock();
+        try {
+            return totalWaiting;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void awaitToken(KisCallPriority priority, long deadline) {
+        while (true) {
+            long now = System.nanoTime();
+            refill(now);
+            if (tokens >= 1.0 && !isHigherPriorityWaiting(priority)) {
+                tokens -= 1.0;
+                return;
+            }
+
+            long remaining = deadline - now;
+            if (remaining <= 0L) {
+                rejected.increment();
+                throw new StockRateLimited();
+            }
+
+            //다음 토큰이 생길 때까지 대기, 우선순위가 높은 요청이 빠지면 깨어난다.
+            long untilNextToken = tokens >= 1.0 ? remaining : (long) Math.ceil((1.0 - tokens) / permitsPerNano);
+            try {
+                tokenReleased.awaitNanos(Math.min(remaining, Math.max(untilNextToken, 1L)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                rejected.increment();
+                throw new StockRateLimited();
+            }
+        }
+    }
+
+    private boolean isHigherPriorityWaiting(KisCallPriority priority) {
+        for (int i = 0; i < priority.ordinal(); i++) {
+            if (waiting[i] > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+    }
+}
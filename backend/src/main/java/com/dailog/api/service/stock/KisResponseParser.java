@@ -0,0 +1,327 @@
+package com.dailog.api.service.stock;
+
+import com.dailog.api.exception.stock.StockUnavailable;
+import com.dailog.api.response.stock.StockInfo;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 한국투자증권 API 응답 파서
+ * 응답 전체를 트리로 만들지 않고 스트리밍으로 읽으면서 필요한 필드만 숫자로 변환한다.
+ */
+@Slf4j
+@Component
+public class KisResponseParser {
+
+    private static final String SUCCESS = "0";
+    private static final DateTimeFormatter MINUTE_KEY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    public KisAccessToken parseAccessToken(String body) {
+        String token = null;
+        long expiresIn = 0L;
+        try (JsonParser parser = open(body)) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "access_token" -> token = parser.getText();
+                    case "expires_in" -> expiresIn = parser.getValueAsLong();
+                    default -> parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw parseFailed(e);
+        }
+
+        if (token == null) {
+            throw new StockUnavailable();
+        }
+        return new KisAccessToken(token, expiresIn);
+    }
+
+    //해외주식 현재가 상세
+    public KisQuote parseQuote(String body) {
+        return readBody(body, "output", JsonToken.START_OBJECT, this::readQuote);
+    }
+
+    //해외주식 상품기본정보
+    public StockInfo parseStockInfo(String body) {
+        return readBody(body, "output", JsonToken.START_OBJECT, this::readStockInfo);
+    }
+
+    //해외주식 기간별 시세 (최신 -> 과거 순)
+    public List<Candle> parseDailyCandles(String body) {
+        return readBody(body, "output2", JsonToken.START_ARRAY, this::readDailyCandles);
+    }
+
+    //해외주식 분봉조회 (최신 -> 과거 순), output1의 다음 페이지 여부와 함께 읽는다.
+    public MinuteBarPage parseMinutePage(String body) {
+        String resultCode = null;
+        String message = null;
+        boolean hasNext = false;
+        List<Candle> candles = null;
+        String lastExchangeTime = null;
+        try (JsonParser parser = open(body)) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if ("rt_cd".equals(field)) {
+                    resultCode = parser.getText();
+                } else if ("msg1".equals(field)) {
+                    message = parser.getText();
+                } else if ("output1".equals(field) && token == JsonToken.START_OBJECT) {
+                    hasNext = readHasNext(parser);
+                } else if ("output2".equals(field) && token == JsonToken.START_ARRAY) {
+                    candles = new ArrayList<>();
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        MinuteRow row = readMinuteRow(parser);
+                        if (row.candle().date() != null && !row.candle().date().isEmpty()) {
+                            candles.add(row.candle());
+                            lastExchangeTime = row.exchangeTime();
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw parseFailed(e);
+        }
+
+        checkResult(resultCode, message, candles != null);
+        String nextKey = toNextKey(lastExchangeTime);
+        return new MinuteBarPage(candles, hasNext && nextKey != null, nextKey);
+    }
+
+    //응답 코드(rt_cd)를 확인하고 outputField의 값만 reader로 읽는다.
+    private <T> T readBody(String body, String outputField, JsonToken outputStart, OutputReader<T> reader) {
+        String resultCode = null;
+        String message = null;
+        T output = null;
+        try (JsonParser parser = open(body)) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if ("rt_cd".equals(field)) {
+                    resultCode = parser.getText();
+                } else if ("msg1".equals(field)) {
+                    message = parser.getText();
+                } else if (outputField.equals(field) && token == outputStart) {
+                    output = reader.read(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw parseFailed(e);
+        }
+
+        checkResult(resultCode, message, output != null);
+        return output;
+    }
+
+    private void checkResult(String resultCode, String message, boolean hasOutput) {
+        if ((resultCode != null && !SUCCESS.equals(resultCode)) || !hasOutput) {
+            log.info("Failed to get stock data. rt_cd: {}, msg: {}", resultCode, message);
+            throw new StockUnavailable();
+        }
+    }
+
+    private KisQuote readQuote(JsonParser parser) throws IOException {
+        double open = 0.0;
+        double high = 0.0;
+        double low = 0.0;
+        double last = 0.0;
+        double base = 0.0;
+        long volume = 0L;
+        long marketCap = 0L;
+        double high52Weeks = 0.0;
+        String high52WeeksDate = "";
+        double low52Weeks = 0.0;
+        String low52WeeksDate = "";
+        String per = "";
+        String pbr = "";
+        String eps = "";
+        String bps = "";
+        long totalShares = 0L;
+        String sector = "";
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "open" -> open = parser.getValueAsDouble();  //시가
+                case "high" -> high = parser.getValueAsDouble();  //고가
+                case "low" -> low = parser.getValueAsDouble();  //저가
+                case "last" -> last = parser.getValueAsDouble();  //현재가
+                case "base" -> base = parser.getValueAsDouble();  //전일 종가
+                case "tvol" -> volume = parser.getValueAsLong();  //거래량
+                case "tomv" -> marketCap = parser.getValueAsLong();  //시가총액
+                case "h52p" -> high52Weeks = parser.getValueAsDouble();  //52주 최고가
+                case "h52d" -> high52WeeksDate = parser.getText();  //52주 최고일자
+                case "l52p" -> low52Weeks = parser.getValueAsDouble();  //52주 최저가
+                case "l52d" -> low52WeeksDate = parser.getText();  //52주 최저일자
+                case "perx" -> per = parser.getText();
+                case "pbrx" -> pbr = parser.getText();
+                case "epsx" -> eps = parser.getText();
+                case "bpsx" -> bps = parser.getText();
+                case "shar" -> totalShares = parser.getValueAsLong();  //상장주수
+                case "e_icod" -> sector = parser.getText();  //업종
+                default -> parser.skipChildren();
+            }
+        }
+        return new KisQuote(open, high, low, last, base, volume, marketCap, high52Weeks, high52WeeksDate, low52Weeks, low52WeeksDate,
+                per, pbr, eps, bps, totalShares, sector);
+    }
+
+    private StockInfo readStockInfo(JsonParser parser) throws IOException {
+        StockInfo.StockInfoBuilder builder = StockInfo.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "natn_name" -> builder.country(parser.getText());
+                case "tr_mket_name" -> builder.market(parser.getText());
+                case "prdt_name" -> builder.name(parser.getText());
+                default -> parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    private List<Candle> readDailyCandles(JsonParser parser) throws IOException {
+        List<Candle> candles = new ArrayList<>(StockCandleStore.WINDOW_SIZE);
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            Candle candle = readDailyCandle(parser);
+            //조회 결과가 없으면 빈 객체 하나가 오는 경우가 있다.
+            if (candle.date() != null && !candle.date().isEmpty()) {
+                candles.add(candle);
+            }
+        }
+        return candles;
+    }
+
+    private Candle readDailyCandle(JsonParser parser) throws IOException {
+        String date = null;
+        double open = 0.0;
+        double high = 0.0;
+        double low = 0.0;
+        double close = 0.0;
+        double diff = 0.0;
+        double rate = 0.0;
+        long volume = 0L;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "xymd" -> date = parser.getText();  //일자(YYYYMMDD)
+                case "open" -> open = parser.getValueAsDouble();
+                case "high" -> high = parser.getValueAsDouble();
+                case "low" -> low = parser.getValueAsDouble();
+                case "clos" -> close = parser.getValueAsDouble();
+                case "diff" -> diff = parser.getValueAsDouble();  //전일과 종가 차이
+                case "rate" -> rate = parser.getValueAsDouble();  //등락율
+                case "tvol" -> volume = parser.getValueAsLong();  //거래량
+                default -> parser.skipChildren();
+            }
+        }
+        return new Candle(date, open, high, low, close, diff, rate, volume);
+    }
+
+    //다음 페이지 여부 (next: 다음 조회 가능 여부)
+    private boolean readHasNext(JsonParser parser) throws IOException {
+        boolean hasNext = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("next".equals(field)) {
+                hasNext = "1".equals(parser.getText()) || "Y".equalsIgnoreCase(parser.getText());
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return hasNext;
+    }
+
+    private MinuteRow readMinuteRow(JsonParser parser) throws IOException {
+        String date = null;
+        String time = "";
+        String exchangeDate = "";
+        String exchangeTime = "";
+        double open = 0.0;
+        double high = 0.0;
+        double low = 0.0;
+        double close = 0.0;
+        long volume = 0L;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "kymd" -> date = parser.getText();  //한국 기준 일자
+                case "khms" -> time = parser.getText();  //한국 기준 시간
+                case "xymd" -> exchangeDate = parser.getText();  //현지 기준 일자 (다음 페이지 조회 키)
+                case "xhms" -> exchangeTime = parser.getText();  //현지 기준 시간
+                case "open" -> open = parser.getValueAsDouble();
+                case "high" -> high = parser.getValueAsDouble();
+                case "low" -> low = parser.getValueAsDouble();
+                case "last" -> close = parser.getValueAsDouble();
+                case "evol" -> volume = parser.getValueAsLong();  //체결량
+                default -> parser.skipChildren();
+            }
+        }
+        Candle candle = new Candle(date == null ? null : date + time, open, high, low, close, 0.0, 0.0, volume);
+        return new MinuteRow(candle, exchangeDate + exchangeTime);
+    }
+
+    //마지막 분봉의 1분 전 (현지 시간)부터 이어서 조회
+    private String toNextKey(String lastExchangeTime) {
+        if (lastExchangeTime == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(lastExchangeTime, MINUTE_KEY_FORMAT)
+                    .minusMinutes(1L)
+                    .format(MINUTE_KEY_FORMAT);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private JsonParser open(String body) throws IOException {
+        if (body == null) {
+            throw new IOException("Empty response body");
+        }
+        JsonParser parser = jsonFactory.createParser(body);
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            parser.close();
+            throw new IOException("Response body is not a JSON object");
+        }
+        return parser;
+    }
+
+    private StockUnavailable parseFailed(IOException e) {
+        log.error("Error occurred while parsing stock data: {}", e.getMessage());
+        return new StockUnavailable();
+    }
+
+    private record MinuteRow(Candle candle, String exchangeTime) {
+    }
+
+    @FunctionalInterface
+    private interface OutputReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+}
@@ -0,0 +1,230 @@
+package com.dailog.api.service.stock;
+
+import com.dailog.api.exception.DailogException;
+import com.dailog.api.exception.stock.StockUnavailable;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 한국투자증권 접근 토큰 관리
+ * 요청 처리 중에는 로컬에 보관한 토큰만 읽고, 만료되기 전에 백그라운드에서 미리 갱신한다.
+ * 여러 인스턴스가 동시에 발급하지 않도록 Redis 락(SET NX PX)을 얻은 인스턴스만 발급하고,
+ * 나머지는 Redis에 저장된 토큰을 가져다 쓴다.
+ */
+@Slf4j
+@Component
+public class KisTokenManager {
+
+    static final String TOKEN_KEY = "accessToken";
+    static final String LOCK_KEY = "accessToken:lock";
+    private static final String TOKEN_URL = KisApiClient.API_URL + "/oauth2/tokenP";
+    private static final Duration EXPIRY_MARGIN = Duration.ofMinutes(1L);  //만료 직전 토큰으로 호출하지 않도록
+    private static final long POLL_INTERVAL_MILLIS = 100L;
+
+    //락을 얻은 인스턴스만 해제
+    private static final RedisScript<Long> RELEASE_LOCK = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final KisApiClient kisApiClient;
+    private final KisResponseParser kisResponseParser;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final String appKey;
+    private final String appSecret;
+    private final Duration refreshAhead;
+    private final Duration lockTtl;
+    private final long waitMillis;
+    private final Counter refreshSuccess;
+    private final Counter refreshFailure;
+
+    private volatile CachedToken current;
+
+    public KisTokenManager(KisApiClient kisApiClient,
+                           KisResponseParser kisResponseParser,
+                           RedisTemplate<String, Object> redisTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${korea-investment.app-key}") String appKey,
+                           @Value("${korea-investment.app-secret}") String appSecret,
+                           @Value("${stock.token.refresh-ahead-ms:3600000}") long refreshAheadMillis,
+                           @Value("${stock.token.lock-ttl-ms:10000}") long lockTtlMillis,
+                           @Value("${stock.token.wait-ms:3000}") long waitMillis) {
+        this.kisApiClient = kisApiClient;
+        this.kisResponseParser = kisResponseParser;
+        this.redisTemplate = redisTemplate;
+        this.appKey = appKey;
+        this.appSecret = appSecret;
+        this.refreshAhead = Duration.ofMillis(refreshAheadMillis);
+        this.lockTtl = Duration.ofMillis(lockTtlMillis);
+        this.waitMillis = waitMillis;
+
+        this.refreshSuccess = Counter.builder("stock.token.refresh")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.refreshFailure = Counter.builder("stock.token.refresh")
+                .tag("result", "failure")
+                .register(meterRegistry);
+        //이 인스턴스가 현재 토큰을 받은 뒤 지난 시간과 만료까지 남은 시간 (초)
+        Gauge.builder("stock.token.age", this, manager -> manager.secondsSince(CachedToken::loadedAt))
+                .register(meterRegistry);
+        Gauge.builder("stock.token.remaining", this, manager -> -manager.secondsSince(CachedToken::expiresAt))
+                .register(meterRegistry);
+    }
+
+    public String getToken() {
+        CachedToken token = current;
+        if (token != null && token.isValidAt(Instant.now())) {
+            return token.value();
+        }
+        return refresh(Instant.now()).value();
+    }
+
+    //만료가 가까우면 요청이 오기 전에 미리 갱신 (사용 중인 토큰이 없는 인스턴스는 갱신하지 않는다)
+    @Scheduled(fixedDelayString = "${stock.token.check-interval-ms:60000}")
+    public void refreshIfExpiring() {
+        CachedToken token = current;
+        Instant validUntil = Instant.now().plus(refreshAhead);
+        if (token == null || token.isValidAt(validUntil)) {
+            return;
+        }
+
+        try {
+            refresh(validUntil);
+        } catch (DailogException e) {
+            //기존 토큰이 아직 유효하므로 다음 주기에 다시 시도
+            log.warn("Failed to refresh access token ahead of expiry: {}", e.getMessage());
+        }
+    }
+
+    //validUntil까지 유효한 토큰을 Redis에서 가져오거나 새로 발급
+    private synchronized CachedToken refresh(Instant validUntil) {
+        CachedToken token = current;
+        if (token != null && token.isValidAt(validUntil)) {
+            return token;
+        }
+
+        token = loadFromRedis(validUntil);
+        if (token == null) {
+            token = issueWithLock(validUntil);
+        }
+        if (token == null) {
+            throw new StockUnavailable();
+        }
+
+        current = token;
+        return token;
+    }
+
+    private CachedToken issueWithLock(Instant validUntil) {
+        String owner = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, owner, lockTtl);
+        if (Boolean.TRUE.equals(locked)) {
+            try {
+                //락을 얻기 직전에 다른 인스턴스가 갱신했을 수 있다.
+                CachedToken token = loadFromRedis(validUntil);
+                return token != null ? token : issue();
+            } finally {
+                redisTemplate.execute(RELEASE_LOCK, List.of(LOCK_KEY), owner);
+            }
+        }
+
+        //다른 인스턴스가 발급 중이면 Redis에 저장될 때까지 대기
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitMillis);
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            CachedToken token = loadFromRedis(validUntil);
+            if (token != null) {
+                return token;
+            }
+        }
+        log.warn("Timed out waiting for access token issued by another instance.");
+        return null;
+    }
+
+    private CachedToken loadFromRedis(Instant validUntil) {
+        Object value = redisTemplate.opsForValue().get(TOKEN_KEY);
+        Long ttlMillis = redisTemplate.getExpire(TOKEN_KEY, TimeUnit.MILLISECONDS);
+        if (value == null || ttlMillis == null || ttlMillis <= 0) {
+            return null;
+        }
+
+        Instant now = Instant.now();
+        CachedToken token = new CachedToken(value.toString(), now.plusMillis(ttlMillis), now);
+        return token.isValidAt(validUntil) ? token : null;
+    }
+
+    private CachedToken issue() {
+        //JSON 바디 생성
+        Map<String, String> requestBody = Map.of(
+                "grant_type", "client_credentials",
+                "appkey", appKey,
+                "appsecret", appSecret);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<Map<String, String>> entity = new HttpEntity<>(requestBody, headers);
+
+        try {
+            ResponseEntity<String> response = kisApiClient.exchange(TOKEN_URL, HttpMethod.POST, entity,
+                    KisEndpoint.TOKEN);
+            if (response.getStatusCode() != HttpStatus.OK) {
+                log.info("Failed to get access token. Status code: {}", response.getStatusCode());
+                refreshFailure.increment();
+                return null;
+            }
+
+            KisAccessToken accessToken = kisResponseParser.parseAccessToken(response.getBody());
+            Duration ttl = Duration.ofSeconds(accessToken.expiresIn()).minus(EXPIRY_MARGIN);
+            redisTemplate.opsForValue().set(TOKEN_KEY, accessToken.token(), ttl);
+            refreshSuccess.increment();
+            log.info("Issued new access token. Expires in {}", ttl);
+
+            Instant now = Instant.now();
+            return new CachedToken(accessToken.token(), now.plus(ttl), now);
+        } catch (DailogException e) {
+            log.warn("Error occurred while fetching access token: {}", e.getMessage());
+            refreshFailure.increment();
+            return null;
+        }
+    }
+
+    private double secondsSince(Function<CachedToken, Instant> field) {
+        CachedToken token = current;
+        if (token == null) {
+            return 0.0;
+        }
+        return Duration.between(field.apply(token), Instant.now()).toMillis() / 1000.0;
+    }
+
+    private record CachedToken(String value, Instant expiresAt, Instant loadedAt) {
+
+        boolean isValidAt(Instant instant) {
+            return expiresAt.isAfter(instant);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.dailog.api.service.stock;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * 미국 주식시장 거래 시간대 (뉴욕 시간 기준, 휴장일은 고려하지 않음)
+ */
+public enum MarketSession {
+
+    PRE_MARKET,   //04:00 ~ 09:30
+    REGULAR,      //09:30 ~ 16:00
+    AFTER_HOURS,  //16:00 ~ 20:00
+    CLOSED;
+
+    public static final ZoneId MARKET_ZONE = ZoneId.of("America/New_York");
+
+    private static final LocalTime PRE_MARKET_OPEN = LocalTime.of(4, 0);
+    private static final LocalTime REGULAR_OPEN = LocalTime.of(9, 30);
+    private static final LocalTime REGULAR_CLOSE = LocalTime.of(16, 0);
+    private static final LocalTime AFTER_HOURS_CLOSE = LocalTime.of(20, 0);
+
+    public static MarketSession of(ZonedDateTime dateTime) {
+        ZonedDateTime marketTime = dateTime.withZoneSameInstant(MARKET_ZONE);
+        DayOfWeek dayOfWeek = marketTime.getDayOfWeek();
+        if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
+            return CLOSED;
+        }
+
+        LocalTime time = marketTime.toLocalTime();
+        if (time.isBefore(PRE_MARKET_OPEN)) {
+            return CLOSED;
+        }
+        if (time.isBefore(REGULAR_OPEN)) {
+            return PRE_MARKET;
+        }
+        if (time.isBefore(REGULAR_CLOSE)) {
+            return REGULAR;
+        }
+        if (time.isBefore(AFTER_HOURS_CLOSE)) {
+            return AFTER_HOURS;
+        }
+        return CLOSED;
+    }
+
+    //오늘 정규장이 시작됐는지 여부 -> 오늘 일봉이 있다.
+    public static boolean isRegularSessionStarted(ZonedDateTime dateTime) {
+        ZonedDateTime marketTime = dateTime.withZoneSameInstant(MARKET_ZONE);
+        DayOfWeek dayOfWeek = marketTime.getDayOfWeek();
+        return dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY
+                && !marketTime.toLocalTime().isBefore(REGULAR_OPEN);
+    }
+
+    public boolean isOpen() {
+        return this != CLOSED;
+    }
+}
@@ -0,0 +1,94 @@
+package com.dailog.api.service.stock;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근 조회된 종목별 1분봉 버퍼
+ * 처음에는 연속 조회 키(NEXT/KEYB)로 여러 페이지를 받아 채우고, 이후에는 최신 페이지부터 이미 받은 분봉과
+ * 겹칠 때까지만 조회한다. 가장 최근 분봉은 마감 전일 수 있으므로 새로 받은 값으로 덮어쓴다.
+ * 일정 시간 조회되지 않은 종목의 버퍼는 제거된다.
+ * 증권사 API는 잠금 없이 호출하고, 받은 분봉을 버퍼에 합칠 때만 잠근다.
+ * (같은 종목의 갱신은 StockQuoteCache가 하나로 모으므로 동시에 조회하지 않는다.)
+ */
+@Component
+public class MinuteBarBuffer {
+
+    private final Cache<String, NavigableMap<String, Candle>> buffers;
+    private final int maxBars;
+    private final int maxPages;
+
+    public MinuteBarBuffer(@Value("${stock.minutes.max-bars:1200}") int maxBars,
+                           @Value("${stock.minutes.max-pages:10}") int maxPages,
+                           @Value("${stock.minutes.maximum-tickers:500}") long maximumTickers,
+                           @Value("${stock.minutes.expire-after-access-ms:1800000}") long expireAfterAccessMillis) {
+        this.maxBars = maxBars;
+        this.maxPages = maxPages;
+        this.buffers = Caffeine.newBuilder()
+                .maximumSize(maximumTickers)
+                .expireAfterAccess(Duration.ofMillis(expireAfterAccessMillis))
+                .build();
+    }
+
+    /**
+     * @param fetcher 연속 조회 키(첫 페이지는 빈 문자열)로 1분봉 한 페이지를 조회
+     */
+    public MinuteBars refresh(String ticker, PageFetcher fetcher) {
+        NavigableMap<String, Candle> bars = buffers.get(ticker, key -> new TreeMap<>());
+        String newestStored;
+        int storedSize;
+        synchronized (bars) {
+            newestStored = bars.isEmpty() ? null : bars.lastKey();
+            storedSize = bars.size();
+        }
+
+        List<Candle> fetched = new ArrayList<>();
+        String oldestFetched = null;
+        boolean overlapped = false;
+        String nextKey = "";
+        for (int page = 0; page < maxPages; page++) {
+            MinuteBarPage minuteBarPage = fetcher.fetch(nextKey);
+            List<Candle> candles = minuteBarPage.candles();
+            if (candles.isEmpty()) {
+                break;
+            }
+            fetched.addAll(candles);
+
+            oldestFetched = candles.get(candles.size() - 1).date();
+            overlapped = newestStored != null && oldestFetched.compareTo(newestStored) <= 0;
+            if (overlapped || !minuteBarPage.hasNext() || storedSize + fetched.size() >= maxBars) {
+                break;
+            }
+            nextKey = minuteBarPage.nextKey();
+        }
+
+        synchronized (bars) {
+            fetched.forEach(candle -> bars.put(candle.date(), candle));
+            //이어지지 않는 과거 분봉은 버린다 (오랫동안 조회되지 않은 종목)
+            if (newestStored != null && !overlapped && oldestFetched != null) {
+                bars.headMap(oldestFetched, false).clear();
+            }
+            while (bars.size() > maxBars) {
+                bars.pollFirstEntry();
+            }
+            return new MinuteBars(new ArrayList<>(bars.descendingMap().values()));
+        }
+    }
+
+    //1분봉을 모아서 intervalMinutes 단위 봉을 CHART_SIZE개 만들 수 있는지 여부
+    public boolean covers(int intervalMinutes) {
+        return (long) intervalMinutes * MinuteBars.CHART_SIZE <= maxBars;
+    }
+
+    @FunctionalInterface
+    public interface PageFetcher {
+        MinuteBarPage fetch(String nextKey);
+    }
+}
@@ -0,0 +1,12 @@
+package com.dailog.api.service.stock;
+
+import java.util.List;
+
+/**
+ * 해외주식 분봉조회 응답 한 페이지
+ * @param candles 1분봉 (최신 -> 과거 순)
+ * @param hasNext 이전 분봉을 더 조회할 수 있는지
+ * @param nextKey 다음 페이지 조회 시 KEYB에 넣을 값 (마지막 분봉의 현지 시간 1분 전, YYYYMMDDHHMMSS)
+ */
+public record MinuteBarPage(List<Candle> candles, boolean hasNext, String nextKey) {
+}
@@ -0,0 +1,76 @@
+package com.dailog.api.service.stock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 종목의 1분봉 버퍼 스냅샷
+ * 5/15/30/60분봉 등은 증권사 API를 따로 호출하지 않고 1분봉을 모아서 만들며, 분 단위마다 처음 요청될 때 한 번만 만든다.
+ */
+public final class MinuteBars {
+
+    public static final int CHART_SIZE = 100;  //분 단위별 응답 봉 개수
+    private static final int MINUTES_PER_HOUR = 60;
+
+    private final List<Candle> candles;  //1분봉, 최신 -> 과거
+    private final ConcurrentMap<Integer, CandleSeries> series = new ConcurrentHashMap<>();
+
+    MinuteBars(List<Candle> candles) {
+        this.candles = List.copyOf(candles);
+    }
+
+    public static boolean isSupportedInterval(int intervalMinutes) {
+        return intervalMinutes > 0 && MINUTES_PER_HOUR % intervalMinutes == 0;
+    }
+
+    public List<Candle> getCandles() {
+        return candles;
+    }
+
+    /**
+     * @param intervalMinutes 1시간을 나누어떨어지는 분 단위 (1, 5, 15, 30, 60 등)
+     */
+    public CandleSeries getSeries(int intervalMinutes) {
+        return series.computeIfAbsent(intervalMinutes, this::aggregate);
+    }
+
+    //시각(일자 + HHmm)을 분 단위로 내림해서 같은 구간의 1분봉을 하나로 합친다.
+    private CandleSeries aggregate(int intervalMinutes) {
+        List<Candle> result = new ArrayList<>(CHART_SIZE);
+        int i = 0;
+        while (i < candles.size() && result.size() < CHART_SIZE) {
+            Candle newest = candles.get(i);
+            String bucket = toBucket(newest.date(), intervalMinutes);
+            double high = newest.high();
+            double low = newest.low();
+            long volume = newest.volume();
+            Candle oldest = newest;
+
+            int j = i + 1;
+            while (j < candles.size() && bucket.equals(toBucket(candles.get(j).date(), intervalMinutes))) {
+                Candle candle = candles.get(j);
+                high = Math.max(high, candle.high());
+                low = Math.min(low, candle.low());
+                volume += candle.volume();
+                oldest = candle;
+                j++;
+            }
+
+            result.add(new Candle(bucket, oldest.open(), high, low, newest.close(), 0.0, 0.0, volume));
+            i = j;
+        }
+        return CandleSeries.minutes(result);
+    }
+
+    //YYYYMMDDHHMMSS -> 구간 시작 시각
+    private static String toBucket(String date, int intervalMinutes) {
+        if (intervalMinutes == 1) {
+            return date;
+        }
+        int minute = Integer.parseInt(date.substring(10, 12));
+        int bucketMinute = minute / intervalMinutes * intervalMinutes;
+        return date.substring(0, 10) + (bucketMinute < 10 ? "0" : "") + bucketMinute + "00";
+    }
+}
@@ -0,0 +1,55 @@
+package com.dailog.api.service.stock;
+
+import java.time.Instant;
+import java.util.function.Supplier;
+
+/**
+ * 증권사 API 장애로 마지막으로 성공한 응답을 대신 반환했는지 요청 스레드에 기록한다.
+ * StockQuoteCache가 표시하고, capture로 감싼 쪽(컨트롤러 등)이 응답에 오래된 데이터임을 알린다.
+ */
+public final class StaleData {
+
+    private static final ThreadLocal<Holder> CURRENT = new ThreadLocal<>();
+
+    private StaleData() {
+    }
+
+    public static <T> Result<T> capture(Supplier<T> supplier) {
+        Holder outer = CURRENT.get();
+        Holder holder = new Holder();
+        CURRENT.set(holder);
+        try {
+            T value = supplier.get();
+            return new Result<>(value, holder.loadedAt);
+        } finally {
+            if (outer == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(outer);
+            }
+        }
+    }
+
+    //capture 밖에서는 무시, 여러 값이 오래된 경우 가장 오래된 시점을 기록
+    static void mark(Instant loadedAt) {
+        Holder holder = CURRENT.get();
+        if (holder != null && (holder.loadedAt == null || loadedAt.isBefore(holder.loadedAt))) {
+            holder.loadedAt = loadedAt;
+        }
+    }
+
+    /**
+     * @param loadedAt 대신 반환한 응답을 증권사 API에서 받은 시점, 최신 응답이면 null
+     */
+    public record Result<T>(T value, Instant loadedAt) {
+
+        public boolean isStale() {
+            return loadedAt != null;
+        }
+    }
+
+    private static class Holder {
+
+        private Instant loadedAt;
+    }
+}
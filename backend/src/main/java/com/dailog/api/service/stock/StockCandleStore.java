@@ -0,0 +1,152 @@
+package com.dailog.api.service.stock;
+
+import com.dailog.api.domain.StockCandle;
+import com.dailog.api.domain.StockCandleRange;
+import com.dailog.api.repository.stock.StockCandleRangeRepository;
+import com.dailog.api.repository.stock.StockCandleRepository;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 마감된 일/주/월봉 저장소
+ * 증권사 API에서 받은 봉 중 마감된 것만 추가하고, 저장된 구간 안의 조회는 증권사 API를 호출하지 않는다.
+ * 봉은 수정주가(MODP=1)이므로 분할, 배당 뒤에는 과거 봉의 가격도 바뀐다.
+ * -> 새로 받은 봉과 저장된 봉의 종가가 다르면 해당 종목, 기간 구분의 봉을 모두 지우고 새로 받은 봉부터 다시 쌓는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockCandleStore {
+
+    public static final int WINDOW_SIZE = 100;  //기간별 시세 API가 한 번에 반환하는 봉 개수
+
+    private final StockCandleRepository stockCandleRepository;
+    private final StockCandleRangeRepository stockCandleRangeRepository;
+
+    //기준일 이전 100개의 봉이 모두 저장되어 있을 때만 반환 (최신 -> 과거 순)
+    @Transactional(readOnly = true)
+    public Optional<List<Candle>> find(String ticker, String periodType, LocalDate baseDate) {
+        Optional<StockCandleRange> range = stockCandleRangeRepository.findByTickerAndPeriodType(ticker, periodType);
+        if (range.isEmpty() || !range.get().contains(baseDate)) {
+            return Optional.empty();
+        }
+        return findWindow(range.get(), baseDate);
+    }
+
+    //closedBefore 이전의 마감된 봉이 마지막 봉까지 모두 저장되어 있을 때만 최신 100개를 반환 (최신 -> 과거 순)
+    @Transactional(readOnly = true)
+    public Optional<List<Candle>> findLatest(String ticker, String periodType, LocalDate closedBefore) {
+        Optional<StockCandleRange> range = stockCandleRangeRepository.findByTickerAndPeriodType(ticker, periodType);
+        if (range.isEmpty() || !range.get().isCompleteBefore(closedBefore)) {
+            return Optional.empty();
+        }
+        return findWindow(range.get(), range.get().getToDate());
+    }
+
+    private Optional<List<Candle>> findWindow(StockCandleRange range, LocalDate baseDate) {
+        List<StockCandle> candles = stockCandleRepository
+                .findTop100ByTickerAndPeriodTypeAndTradeDateBetweenOrderByTradeDateDesc(
+                        range.getTicker(), range.getPeriodType(), range.getFromDate(), baseDate);
+        if (candles.size() < WINDOW_SIZE && !range.isReachedStart()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(candles.stream()
+                .map(StockCandle::toCandle)
+                .toList());
+    }
+
+    /**
+     * @param candles 증권사 API 응답 (연속된 봉)
+     * @param closedBefore 이 날짜 이전의 봉만 마감된 것으로 보고 저장
+     */
+    @Transactional
+    public void save(String ticker, String periodType, List<Candle> candles, LocalDate closedBefore) {
+        save(ticker, periodType, candles, closedBefore, false);
+    }
+
+    //기준일 없이 조회한 최신 봉을 저장, 이후 closedBefore가 바뀔 때까지 findLatest로 조회할 수 있다.
+    @Transactional
+    public void saveLatest(String ticker, String periodType, List<Candle> candles, LocalDate closedBefore) {
+        save(ticker, periodType, candles, closedBefore, true);
+    }
+
+    private void save(String ticker, String periodType, List<Candle> candles, LocalDate closedBefore,
+                      boolean latest) {
+        List<StockCandle> closedCandles = candles.stream()
+                .map(candle -> StockCandle.of(ticker, periodType, candle))
+                .filter(candle -> candle.getTradeDate().isBefore(closedBefore))
+                .toList();
+        if (closedCandles.isEmpty()) {
+            return;
+        }
+
+        LocalDate from = closedCandles.stream().map(StockCandle::getTradeDate).min(LocalDate::compareTo).get();
+        LocalDate to = closedCandles.stream().map(StockCandle::getTradeDate).max(LocalDate::compareTo).get();
+
+        Map<LocalDate, StockCandle> storedCandles = stockCandleRepository
+                .findByTickerAndPeriodTypeAndTradeDateBetween(ticker, periodType, from, to).stream()
+                .collect(Collectors.toMap(StockCandle::getTradeDate, Function.identity()));
+        boolean adjusted = closedCandles.stream()
+                .anyMatch(candle -> isAdjusted(storedCandles.get(candle.getTradeDate()), candle));
+        List<StockCandle> newCandles;
+        if (adjusted) {
+            log.info("Adjusted prices changed for {} ({}), replacing stored candles", ticker, periodType);
+            stockCandleRepository.deleteByTickerAndPeriodType(ticker, periodType);
+            newCandles = closedCandles;
+        } else {
+            //이미 저장된 날짜는 건너뛰고 새 봉만 추가
+            newCandles = closedCandles.stream()
+                    .filter(candle -> !storedCandles.containsKey(candle.getTradeDate()))
+                    .toList();
+        }
+        stockCandleRepository.saveAll(newCandles);
+
+        //100개보다 적게 왔으면 상장 이후 모든 봉을 받은 것
+        boolean reachedStart = candles.size() < WINDOW_SIZE;
+        Optional<StockCandleRange> range = stockCandleRangeRepository.findByTickerAndPeriodType(ticker, periodType);
+        if (range.isEmpty()) {
+            StockCandleRange newRange = StockCandleRange.builder()
+                    .ticker(ticker)
+                    .periodType(periodType)
+                    .fromDate(from)
+                    .toDate(to)
+                    .reachedStart(reachedStart)
+                    .build();
+            if (latest) {
+                newRange.markCompleteBefore(closedBefore);
+            }
+            stockCandleRangeRepository.save(newRange);
+            return;
+        }
+
+        if (!adjusted && range.get().overlaps(from, to)) {
+            range.get().extend(from, to, reachedStart);
+        } else if (latest || adjusted) {
+            range.get().reset(from, to, reachedStart);
+        } else {
+            //겹치지 않는 과거 구간은 사이에 빠진 봉이 있을 수 있으므로 구간을 넓히지 않는다.
+            return;
+        }
+        if (latest) {
+            range.get().markCompleteBefore(closedBefore);
+        }
+    }
+
+    //저장된 종가는 소수점 넷째 자리까지이므로 같은 자리에서 비교
+    private boolean isAdjusted(StockCandle stored, StockCandle candle) {
+        if (stored == null || stored.getClose() == null) {
+            return false;
+        }
+        return stored.getClose().compareTo(candle.getClose().setScale(4, RoundingMode.HALF_UP)) != 0;
+    }
+}
@@ -0,0 +1,78 @@
+package com.dailog.api.service.stock;
+
+import com.dailog.api.exception.InvalidRequest;
+import com.dailog.api.response.stock.IndicatorSeries;
+import com.dailog.api.service.StockService;
+import com.dailog.api.service.stock.indicator.IndicatorState;
+import com.dailog.api.service.stock.indicator.IndicatorType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Locale;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 캐시된 봉으로 계산하는 기술적 지표 (SMA, EMA, RSI, VWAP, 볼린저 밴드)
+ * 종목/봉 단위/지표/window별로 상태를 보관해서 새로 마감된 봉만 반영한다.
+ * 지표는 최신 봉(기준일 없이 조회한 기간별 시세, 분봉)에 대해서만 계산한다.
+ */
+@Service
+public class StockIndicatorService {
+
+    private static final int MIN_WINDOW = 2;
+    private static final int MAX_WINDOW = 200;
+
+    private final StockService stockService;
+    private final Cache<String, IndicatorState> states;
+
+    public StockIndicatorService(StockService stockService,
+                                 @Value("${stock.indicator.maximum-size:10000}") long maximumSize,
+                                 @Value("${stock.indicator.expire-after-access-ms:1800000}")
+                                 long expireAfterAccessMillis) {
+        this.stockService = stockService;
+        this.states = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(Duration.ofMillis(expireAfterAccessMillis))
+                .build();
+    }
+
+    /**
+     * @param dateType 일/주/월 구분 (0/1/2)
+     * @param type 지표 (SMA, EMA, RSI, VWAP, BOLLINGER)
+     */
+    public IndicatorSeries getHistoryIndicator(String ticker, String dateType, String type, int window) {
+        IndicatorType indicatorType = parseType(type);
+        validateWindow(window);
+        CandleSeries series = stockService.getStockHistorySeries(ticker, dateType, "");
+        return compute("history:" + ticker + ":" + dateType, series, indicatorType, window);
+    }
+
+    public IndicatorSeries getMinuteIndicator(String ticker, String intervalMinutes, String type, int window) {
+        IndicatorType indicatorType = parseType(type);
+        validateWindow(window);
+        CandleSeries series = stockService.getMinuteSeries(ticker, intervalMinutes);
+        return compute("minutes:" + ticker + ":" + intervalMinutes, series, indicatorType, window);
+    }
+
+    private IndicatorSeries compute(String seriesKey, CandleSeries series, IndicatorType type, int window) {
+        IndicatorState state = states.get(seriesKey + ":" + type + ":" + window,
+                key -> new IndicatorState(type, window));
+        return state.update(series);
+    }
+
+    private IndicatorType parseType(String type) {
+        try {
+            return IndicatorType.valueOf(type.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequest("type", "지원하지 않는 지표입니다.");
+        }
+    }
+
+    private void validateWindow(int window) {
+        if (window < MIN_WINDOW || window > MAX_WINDOW) {
+            throw new InvalidRequest("window",
+                    "기간은 " + MIN_WINDOW + "에서 " + MAX_WINDOW + " 사이로 입력해 주세요.");
+        }
+    }
+}
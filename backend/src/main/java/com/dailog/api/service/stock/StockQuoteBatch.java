@@ -0,0 +1,114 @@
+package com.dailog.api.service.stock;
+
+import com.dailog.api.exception.DailogException;
+import com.dailog.api.exception.InvalidRequest;
+import com.dailog.api.exception.stock.StockRateLimited;
+import com.dailog.api.exception.stock.StockUnavailable;
+import com.dailog.api.response.stock.StockDetail;
+import com.dailog.api.response.stock.StockQuoteResult;
+import com.dailog.api.service.StockService;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 종목 현재가 조회
+ * 종목을 concurrency개의 줄로 나눠 줄마다 순서대로 조회하므로 동시에 조회하는 종목 수가 제한된다.
+ * 캐시된 현재가는 StockService에서 바로 반환되고, 실패한 종목은 결과에 오류로 담아 나머지 종목은 그대로 응답한다.
+ */
+@Slf4j
+@Component
+public class StockQuoteBatch {
+
+    private final StockService stockService;
+    private final Executor stockExecutor;
+    private final int maxTickers;
+    private final int concurrency;
+
+    @Autowired
+    public StockQuoteBatch(StockService stockService,
+                           ThreadPoolTaskExecutor stockExecutor,
+                           @Value("${stock.batch.max-tickers:50}") int maxTickers,
+                           @Value("${stock.batch.concurrency:4}") int concurrency) {
+        this(stockService, (Executor) stockExecutor, maxTickers, concurrency);
+    }
+
+    StockQuoteBatch(StockService stockService, Executor stockExecutor, int maxTickers, int concurrency) {
+        this.stockService = stockService;
+        this.stockExecutor = stockExecutor;
+        this.maxTickers = maxTickers;
+        this.concurrency = concurrency;
+    }
+
+    public CompletableFuture<List<StockQuoteResult>> getQuotes(List<String> tickers) {
+        List<String> distinctTickers = normalize(tickers);
+        int size = distinctTickers.size();
+        StockQuoteResult[] results = new StockQuoteResult[size];
+
+        //요청 스레드나 stockExecutor 스레드가 다른 작업의 완료를 기다리며 막히지 않도록 조회를 이어 붙인다.
+        int lanes = Math.min(concurrency, size);
+        CompletableFuture<?>[] laneFutures = new CompletableFuture<?>[lanes];
+        for (int lane = 0; lane < lanes; lane++) {
+            CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+            for (int index = lane; index < size; index += lanes) {
+                int current = index;
+                chain = chain.thenRunAsync(() -> results[current] = load(distinctTickers.get(current)), stockExecutor);
+            }
+            laneFutures[lane] = chain;
+        }
+
+        //stockExecutor 대기열이 가득 차서 실행되지 못한 종목은 429로 응답
+        return CompletableFuture.allOf(laneFutures)
+                .handle((ignored, e) -> {
+                    for (int index = 0; index < size; index++) {
+                        if (results[index] == null) {
+                            results[index] = StockQuoteResult.failure(distinctTickers.get(index),
+                                    new StockRateLimited());
+                        }
+                    }
+                    return Arrays.asList(results);
+                });
+    }
+
+    private StockQuoteResult load(String ticker) {
+        try {
+            StaleData.Result<StockDetail> result = StaleData.capture(() -> stockService.getStockDetail(ticker));
+            return StockQuoteResult.success(ticker, result.value(), result.isStale());
+        } catch (DailogException e) {
+            return StockQuoteResult.failure(ticker, e);
+        } catch (RuntimeException e) {
+            log.error("Error occurred while fetching stock data of {}: {}", ticker, e.getMessage());
+            return StockQuoteResult.failure(ticker, new StockUnavailable(e));
+        }
+    }
+
+    //대문자로 바꾸고 중복을 제거 (요청 순서 유지)
+    private List<String> normalize(List<String> tickers) {
+        Set<String> distinctTickers = new LinkedHashSet<>();
+        if (tickers != null) {
+            for (String ticker : tickers) {
+                String trimmed = ticker.trim();
+                if (!trimmed.isEmpty()) {
+                    distinctTickers.add(trimmed.toUpperCase(Locale.ROOT));
+                }
+            }
+        }
+
+        if (distinctTickers.isEmpty()) {
+            throw new InvalidRequest("tickers", "종목을 입력해 주세요.");
+        }
+        if (distinctTickers.size() > maxTickers) {
+            throw new InvalidRequest("tickers", "한 번에 " + maxTickers + "개까지 조회할 수 있습니다.");
+        }
+        return List.copyOf(distinctTickers);
+    }
+}
@@ -0,0 +1,163 @@
+package com.dailog.api.service.stock;
+
+import com.dailog.api.exception.stock.StockRateLimited;
+import com.dailog.api.exception.stock.StockUnavailable;
+import com.dailog.api.util.SingleFlight;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 증권사 API 응답 캐시
+ * TTL이 지난 항목은 바로 버리지 않고 stale 구간 동안 기존 값을 반환하면서 백그라운드에서 갱신한다.
+ * -> 만료 시점에도 요청이 증권사 API 호출을 기다리지 않는다.
+ * 캐시에 없는 같은 키를 동시에 요청하면 증권사 API는 한 번만 호출하고 결과를 공유한다.
+ * stale 구간이 지난 뒤 증권사 API가 실패하면(장애, 서킷 브레이커, 호출 제한) 마지막으로 성공한 응답을 반환하고
+ * StaleData에 표시한다.
+ */
+@Slf4j
+@Component
+public class StockQuoteCache {
+
+    private static final Duration MIN_STALE_WINDOW = Duration.ofMinutes(1L);
+
+    private final Cache<String, Entry> entries;
+    private final Cache<String, Entry> lastKnownGood;
+    private final SingleFlight<String> singleFlight;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final Executor refreshExecutor;
+    private final Clock clock;
+
+    //갱신은 대기열 크기가 제한된 stockExecutor에서 실행, 대기열이 가득 차면 이번 갱신은 건너뛴다.
+    @Autowired
+    public StockQuoteCache(@Value("${stock.cache.maximum-size:10000}") long maximumSize,
+                           @Value("${stock.cache.last-known-good-ttl-ms:86400000}") long lastKnownGoodTtlMillis,
+                           ThreadPoolTaskExecutor stockExecutor,
+                           MeterRegistry meterRegistry) {
+        this(maximumSize, stockExecutor, Clock.systemUTC(), Duration.ofMillis(lastKnownGoodTtlMillis), meterRegistry);
+    }
+
+    StockQuoteCache(long maximumSize, Executor refreshExecutor, Clock clock, Duration lastKnownGoodTtl,
+                    MeterRegistry meterRegistry) {
+        this.singleFlight = new SingleFlight<>("stock", meterRegistry);
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .expireAfter(new StaleWindowExpiry())
+                .build();
+        this.lastKnownGood = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .expireAfterWrite(lastKnownGoodTtl)
+                .build();
+    }
+
+    /**
+     * @param key 엔드포인트 + 티커 + 파라미터
+     * @param ttl 새 값으로 취급하는 기간, 이후 같은 기간(최소 1분) 동안은 기존 값을 반환하며 갱신
+     * @param loader 캐시에 값이 없거나 갱신할 때 호출
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Duration ttl, Supplier<T> loader) {
+        Entry entry = entries.getIfPresent(key);
+        if (entry != null) {
+            if (clock.instant().isAfter(entry.freshUntil)) {
+                refreshAsync(key, ttl, loader);
+            }
+            return (T) entry.value;
+        }
+
+        try {
+            return load(key, ttl, loader);
+        } catch (StockUnavailable | StockRateLimited e) {
+            Entry fallback = lastKnownGood.getIfPresent(key);
+            if (fallback == null) {
+                throw e;
+            }
+            log.warn("Serving stale stock data {} loaded at {}: {}", key, fallback.loadedAt, e.getMessage());
+            StaleData.mark(fallback.loadedAt);
+            return (T) fallback.value;
+        }
+    }
+
+    public void invalidate(String key) {
+        entries.invalidate(key);
+    }
+
+    private <T> T load(String key, Duration ttl, Supplier<T> loader) {
+        return singleFlight.execute(key, () -> {
+            T value = loader.get();
+            put(key, value, ttl);
+            return value;
+        });
+    }
+
+    private void put(String key, Object value, Duration ttl) {
+        Instant now = clock.instant();
+        Instant freshUntil = now.plus(ttl);
+        Duration staleWindow = ttl.compareTo(MIN_STALE_WINDOW) > 0 ? ttl : MIN_STALE_WINDOW;
+        Entry entry = new Entry(value, now, freshUntil, freshUntil.plus(staleWindow));
+        entries.put(key, entry);
+        lastKnownGood.put(key, entry);
+    }
+
+    //같은 키는 한 번만 갱신, 실패하면 기존 값을 stale 구간이 끝날 때까지 유지
+    private <T> void refreshAsync(String key, Duration ttl, Supplier<T> loader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(key, ttl, loader);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to refresh stock cache {}: {}", key, e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    private record Entry(Object value, Instant loadedAt, Instant freshUntil, Instant staleUntil) {
+    }
+
+    //stale 구간이 끝나면 캐시에서 제거
+    private class StaleWindowExpiry implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(String key, Entry entry, long currentTime) {
+            return Math.max(0L, Duration.between(clock.instant(), entry.staleUntil()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package com.dailog.api.service.stock;
+
+import com.dailog.api.exception.stock.StockRateLimited;
+import com.dailog.api.response.stock.StockDetail;
+import com.dailog.api.service.StockService;
+import com.dailog.api.util.StockSymbolRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 실시간 현재가 SSE 스트리밍
+ * 구독자가 있는 종목만 종목당 하나의 작업이 주기적으로 현재가를 조회해서 모든 구독자에게 보낸다.
+ * 주기는 Spring의 taskScheduler가 맞추고, 조회는 stockExecutor, 전송은 stockStreamExecutor에서 실행한다.
+ * 마지막 구독자가 나가면 조회 작업도 멈춘다.
+ * 종목마다 조회 작업이 증권사 API 호출 한도를 나눠 쓰므로 스트리밍 종목 수와 전체 구독자 수를 제한하고, 넘으면 429로 거절한다.
+ */
+@Slf4j
+@Component
+public class StockQuoteStreamer {
+
+    private static final String EVENT_NAME = "quote";
+
+    private final StockService stockService;
+    private final StockSymbolRegistry stockSymbolRegistry;
+    private final Executor pollExecutor;
+    private final Executor sendExecutor;
+    private final TaskScheduler taskScheduler;
+    private final Clock clock;
+    private final Duration pollInterval;
+    private final long emitterTimeoutMillis;
+    private final long sendTimeoutMillis;
+    private final int maxTickers;
+    private final int maxSubscribers;
+    private final Counter droppedCounter;
+    private final Counter rejectedCounter;
+    private final ConcurrentMap<String, TickerFeed> feeds = new ConcurrentHashMap<>();
+    private final AtomicInteger tickerCount = new AtomicInteger();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    @Autowired
+    public StockQuoteStreamer(StockService stockService,
+                              StockSymbolRegistry stockSymbolRegistry,
+                              ThreadPoolTaskExecutor stockExecutor,
+                              ThreadPoolTaskExecutor stockStreamExecutor,
+                              TaskScheduler taskScheduler,
+                              MeterRegistry meterRegistry,
+                              @Value("${stock.stream.poll-interval-ms:2000}") long pollIntervalMillis,
+                              @Value("${stock.stream.timeout-ms:1800000}") long emitterTimeoutMillis,
+                              @Value("${stock.stream.send-timeout-ms:10000}") long sendTimeoutMillis,
+                              @Value("${stock.stream.max-tickers:50}") int maxTickers,
+                              @Value("${stock.stream.max-subscribers:2000}") int maxSubscribers) {
+        this(stockService, stockSymbolRegistry, stockExecutor, stockStreamExecutor, taskScheduler, Clock.systemUTC(),
+                meterRegistry, Duration.ofMillis(pollIntervalMillis), emitterTimeoutMillis, sendTimeoutMillis,
+                maxTickers, maxSubscribers);
+    }
+
+    StockQuoteStreamer(StockService stockService, StockSymbolRegistry stockSymbolRegistry, Executor pollExecutor,
+                       Executor sendExecutor, TaskScheduler taskScheduler, Clock clock, MeterRegistry meterRegistry,
+                       Duration pollInterval, long emitterTimeoutMillis, long sendTimeoutMillis, int maxTickers,
+                       int maxSubscribers) {
+        this.stockService = stockService;
+        this.stockSymbolRegistry = stockSymbolRegistry;
+        this.pollExecutor = pollExecutor;
+        this.sendExecutor = sendExecutor;
+        this.taskScheduler = taskScheduler;
+        this.clock = clock;
+        this.pollInterval = pollInterval;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+        this.maxTickers = maxTickers;
+        this.maxSubscribers = maxSubscribers;
+
+        Gauge.builder("stock.stream.tickers", feeds, ConcurrentMap::size)
+                .register(meterRegistry);
+        Gauge.builder("stock.stream.subscribers", this, StockQuoteStreamer::getSubscriberCount)
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("stock.stream.dropped")
+                .description("Subscribers dropped because a send stayed blocked past the send timeout")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("stock.stream.rejected")
+                .description("Subscriptions rejected because the ticker or subscriber limit was reached")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(String ticker) {
+        //없는 종목이면 StockNotFound
+        stockSymbolRegistry.getExchangeByTicker(ticker);
+
+        //한도를 넘으면 조회 작업을 만들기 전에 거절
+        if (!tryAcquire(subscriberCount, maxSubscribers)) {
+            rejectedCounter.increment();
+            throw new StockRateLimited();
+        }
+
+        SseEmitter emitter = createEmitter(emitterTimeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter);
+        TickerFeed feed;
+        try {
+            feed = feeds.compute(ticker, (key, existing) -> {
+                if (existing == null && !tryAcquire(tickerCount, maxTickers)) {
+                    throw new StockRateLimited();
+                }
+                TickerFeed tickerFeed = existing != null ? existing : startFeed(key);
+                tickerFeed.subscribers.add(subscriber);
+                return tickerFeed;
+            });
+        } catch (StockRateLimited e) {
+            subscriberCount.decrementAndGet();
+            rejectedCounter.increment();
+            throw e;
+        }
+
+        emitter.onCompletion(() -> unsubscribe(ticker, subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> unsubscribe(ticker, subscriber));
+
+        //이미 조회된 현재가가 있으면 바로 전송
+        StockDetail lastQuote = feed.lastQuote;
+        if (lastQuote != null) {
+            subscriber.offer(lastQuote);
+        }
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        feeds.values().forEach(feed -> {
+            feed.poller.cancel(false);
+            feed.subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        });
+    }
+
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private TickerFeed startFeed(String ticker) {
+        TickerFeed feed = new TickerFeed();
+        feed.poller = taskScheduler.scheduleWithFixedDelay(() -> schedulePoll(ticker, feed), pollInterval);
+        log.info("Started quote stream for {}", ticker);
+        return feed;
+    }
+
+    private static boolean tryAcquire(AtomicInteger count, int limit) {
+        int current;
+        do {
+            current = count.get();
+            if (current >= limit) {
+                return false;
+            }
+        } while (!count.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    //완료, 오류, 제외가 겹쳐 여러 번 호출될 수 있으므로 실제로 목록에서 빠졌을 때만 수를 줄인다.
+    private void unsubscribe(String ticker, Subscriber subscriber) {
+        feeds.computeIfPresent(ticker, (key, feed) -> {
+            if (feed.subscribers.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            if (!feed.subscribers.isEmpty()) {
+                return feed;
+            }
+            tickerCount.decrementAndGet();
+            feed.poller.cancel(false);
+            log.info("Stopped quote stream for {}", ticker);
+            return null;
+        });
+    }
+
+    //스케줄러 스레드는 조회를 기다리지 않고 넘기기만 한다, 이전 조회가 끝나지 않았으면 이번 주기는 건너뛴다.
+    private void schedulePoll(String ticker, TickerFeed feed) {
+        if (!feed.polling.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            pollExecutor.execute(() -> {
+                try {
+                    poll(ticker, feed);
+                } finally {
+                    feed.polling.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            feed.polling.set(false);
+        }
+    }
+
+    //현재가는 캐시를 거쳐 조회하므로 구독자 수와 관계없이 증권사 API 호출은 캐시 TTL에 한 번
+    private void poll(String ticker, TickerFeed feed) {
+        try {
+            StockDetail quote = stockService.getStockDetail(ticker);
+            //캐시가 갱신되지 않았으면 같은 객체이므로 보내지 않는다.
+            if (quote == feed.lastQuote) {
+                return;
+            }
+            feed.lastQuote = quote;
+            long now = clock.millis();
+            for (Subscriber subscriber : feed.subscribers) {
+                if (subscriber.isStuck(now)) {
+                    drop(ticker, subscriber);
+                    continue;
+                }
+                subscriber.offer(quote);
+            }
+        } catch (RuntimeException e) {
+            //다음 주기에 다시 시도
+            log.warn("Failed to poll quote for {}: {}", ticker, e.getMessage());
+        }
+    }
+
+    /**
+     * 전송이 send-timeout보다 오래 막힌 구독자는 목록에서 뺀다.
+     * 막힌 전송이 emitter의 락을 잡고 있으므로 여기서 complete를 호출하지 않고,
+     * 전송 스레드는 소켓 쓰기 타임아웃으로 실패할 때 emitter를 닫고 풀로 돌아간다.
+     */
+    private void drop(String ticker, Subscriber subscriber) {
+        droppedCounter.increment();
+        log.warn("Dropped quote stream subscriber for {}: send blocked over {}ms", ticker, sendTimeoutMillis);
+        unsubscribe(ticker, subscriber);
+    }
+
+    private static class TickerFeed {
+
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private final AtomicBoolean polling = new AtomicBoolean();
+        private volatile StockDetail lastQuote;
+        private volatile ScheduledFuture<?> poller;
+    }
+
+    /**
+     * 구독자마다 전송 대기 중인 현재가는 최신 값 하나만 유지
+     * -> 느린 클라이언트는 중간 값을 건너뛰고, 다른 구독자의 전송을 막지 않는다.
+     */
+    private class Subscriber {
+
+        private final SseEmitter emitter;
+        private final AtomicReference<StockDetail> pending = new AtomicReference<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile long sendingSince = -1L;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void offer(StockDetail quote) {
+            pending.set(quote);
+            scheduleDrain();
+        }
+
+        private boolean isStuck(long now) {
+            long since = sendingSince;
+            return since >= 0L && now - since > sendTimeoutMillis;
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sendExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                //전송 풀이 가득 차면 값은 남겨 두고 다음 현재가가 들어올 때 다시 시도
+                draining.set(false);
+            }
+        }
+
+        private void drain() {
+            try {
+                StockDetail quote;
+                while ((quote = pending.getAndSet(null)) != null) {
+                    sendingSince = clock.millis();
+                    emitter.send(SseEmitter.event().name(EVENT_NAME).data(quote));
+                    sendingSince = -1L;
+                }
+            } catch (IOException | IllegalStateException e) {
+                emitter.completeWithError(e);
+                return;
+            } finally {
+                sendingSince = -1L;
+                draining.set(false);
+            }
+
+            //전송을 마치는 사이에 들어온 값이 있으면 다시 전송
+            if (pending.get() != null) {
+                scheduleDrain();
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.dailog.api.service.stock.indicator;
+
+import com.dailog.api.service.stock.Candle;
+
+/**
+ * 볼린저 밴드 (중심선: 종가 단순 이동평균, 상단/하단: 중심선 ± 표준편차 x 2)
+ */
+class BollingerBands implements Indicator {
+
+    private static final double WIDTH = 2.0;
+
+    private final RollingWindow closes;
+
+    BollingerBands(int window) {
+        this.closes = new RollingWindow(window);
+    }
+
+    @Override
+    public int outputCount() {
+        return 3;
+    }
+
+    @Override
+    public boolean evaluate(Candle candle, boolean commit, double[] out) {
+        int window = closes.capacity();
+        boolean full = closes.size() + 1 >= window;
+        double evicted = closes.evictionCandidate();
+        double close = candle.close();
+        double sum = closes.sum() - evicted + close;
+        double sumOfSquares = closes.sumOfSquares() - evicted * evicted + close * close;
+        if (commit) {
+            closes.add(close);
+        }
+        if (!full) {
+            return false;
+        }
+
+        double mean = sum / window;
+        //부동소수점 오차로 음수가 되지 않도록
+        double deviation = Math.sqrt(Math.max(0.0, sumOfSquares / window - mean * mean));
+        out[0] = mean;
+        out[1] = mean + WIDTH * deviation;
+        out[2] = mean - WIDTH * deviation;
+        return true;
+    }
+}
@@ -0,0 +1,53 @@
+package com.dailog.api.service.stock.indicator;
+
+import com.dailog.api.service.stock.Candle;
+
+/**
+ * 지수 이동평균 (종가), 처음 window개의 단순 평균에서 시작한다.
+ */
+class ExponentialMovingAverage implements Indicator {
+
+    private final int window;
+    private final double alpha;
+    private int count;
+    private double seedSum;
+    private double average;
+
+    ExponentialMovingAverage(int window) {
+        this.window = window;
+        this.alpha = 2.0 / (window + 1);
+    }
+
+    @Override
+    public int outputCount() {
+        return 1;
+    }
+
+    @Override
+    public boolean evaluate(Candle candle, boolean commit, double[] out) {
+        double close = candle.close();
+        if (count >= window) {
+            double next = average + alpha * (close - average);
+            if (commit) {
+                average = next;
+            }
+            out[0] = next;
+            return true;
+        }
+
+        double nextSeedSum = seedSum + close;
+        boolean seeded = count + 1 == window;
+        if (commit) {
+            seedSum = nextSeedSum;
+            count++;
+            if (seeded) {
+                average = nextSeedSum / window;
+            }
+        }
+        if (!seeded) {
+            return false;
+        }
+        out[0] = nextSeedSum / window;
+        return true;
+    }
+}
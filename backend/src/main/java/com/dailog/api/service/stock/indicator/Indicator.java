@@ -0,0 +1,19 @@
+package com.dailog.api.service.stock.indicator;
+
+import com.dailog.api.service.stock.Candle;
+
+/**
+ * 봉을 과거 -> 최신 순으로 하나씩 반영하는 기술적 지표, 봉 하나당 O(1)로 갱신한다.
+ */
+public interface Indicator {
+
+    //봉 하나당 값 개수 (볼린저 밴드는 중심선, 상단, 하단 3개)
+    int outputCount();
+
+    /**
+     * @param commit false면 상태를 바꾸지 않고 값만 계산 (아직 마감되지 않은 봉)
+     * @param out 계산된 값을 담을 배열 (길이 outputCount)
+     * @return 값이 정해졌으면 true, window만큼 봉이 쌓이기 전에는 false
+     */
+    boolean evaluate(Candle candle, boolean commit, double[] out);
+}
@@ -0,0 +1,120 @@
+package com.dailog.api.service.stock.indicator;
+
+import com.dailog.api.response.stock.IndicatorSeries;
+import com.dailog.api.service.stock.Candle;
+import com.dailog.api.service.stock.CandleSeries;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 종목/봉 단위/지표/window별 지표 상태
+ * 마감된 봉은 한 번만 반영(봉 하나당 O(1))하고,
+ * 가장 최근 봉은 아직 마감되지 않았을 수 있으므로 상태를 바꾸지 않고 계산만 한다.
+ * 같은 CandleSeries(캐시된 응답)로 다시 요청하면 이전 결과를 그대로 반환한다.
+ */
+public class IndicatorState {
+
+    private static final int MAX_POINTS = 2000;
+
+    private final IndicatorType type;
+    private final int window;
+    private final ArrayDeque<Point> points = new ArrayDeque<>();  //과거 -> 최신
+    private Indicator indicator;
+    private String lastCommittedDate;
+    private CandleSeries lastSeries;
+    private IndicatorSeries lastResult;
+
+    public IndicatorState(IndicatorType type, int window) {
+        this.type = type;
+        this.window = window;
+        this.indicator = type.create(window);
+    }
+
+    public synchronized IndicatorSeries update(CandleSeries series) {
+        if (series == lastSeries) {
+            return lastResult;
+        }
+
+        List<Candle> candles = series.getCandles();  //최신 -> 과거
+        if (candles.isEmpty()) {
+            return toResult(List.of());
+        }
+
+        //반영된 봉과 이어지지 않으면(오랫동안 조회되지 않았거나 과거 응답이 온 경우) 처음부터 다시 계산
+        String newestDate = candles.get(0).date();
+        String oldestDate = candles.get(candles.size() - 1).date();
+        if (lastCommittedDate != null && (oldestDate.compareTo(lastCommittedDate) > 0
+                || newestDate.compareTo(lastCommittedDate) <= 0)) {
+            reset();
+        }
+
+        double[] out = new double[indicator.outputCount()];
+        for (int i = candles.size() - 1; i >= 1; i--) {
+            Candle candle = candles.get(i);
+            if (lastCommittedDate != null && candle.date().compareTo(lastCommittedDate) <= 0) {
+                continue;
+            }
+            if (indicator.evaluate(candle, true, out)) {
+                addPoint(new Point(candle.date(), out.clone()));
+            }
+            lastCommittedDate = candle.date();
+        }
+
+        List<Point> result = new ArrayList<>();
+        if (indicator.evaluate(candles.get(0), false, out)) {
+            result.add(new Point(newestDate, out.clone()));
+        }
+        Iterator<Point> iterator = points.descendingIterator();
+        while (iterator.hasNext()) {
+            Point point = iterator.next();
+            if (point.date().compareTo(oldestDate) < 0) {
+                break;
+            }
+            result.add(point);
+        }
+
+        lastSeries = series;
+        lastResult = toResult(result);
+        return lastResult;
+    }
+
+    private void addPoint(Point point) {
+        points.addLast(point);
+        if (points.size() > MAX_POINTS) {
+            points.removeFirst();
+        }
+    }
+
+    private void reset() {
+        indicator = type.create(window);
+        points.clear();
+        lastCommittedDate = null;
+    }
+
+    private IndicatorSeries toResult(List<Point> result) {
+        int size = result.size();
+        List<String> dates = new ArrayList<>(size);
+        double[][] lines = new double[indicator.outputCount()][size];
+        for (int i = 0; i < size; i++) {
+            Point point = result.get(i);
+            dates.add(point.date());
+            for (int line = 0; line < lines.length; line++) {
+                lines[line][i] = point.values()[line];
+            }
+        }
+
+        return IndicatorSeries.builder()
+                .type(type.name())
+                .window(window)
+                .dates(dates)
+                .values(lines[0])
+                .upper(lines.length > 1 ? lines[1] : null)
+                .lower(lines.length > 2 ? lines[2] : null)
+                .build();
+    }
+
+    private record Point(String date, double[] values) {
+    }
+}
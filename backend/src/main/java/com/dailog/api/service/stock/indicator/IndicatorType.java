@@ -0,0 +1,21 @@
+package com.dailog.api.service.stock.indicator;
+
+import java.util.function.IntFunction;
+
+public enum IndicatorType {
+    SMA(SimpleMovingAverage::new),  //단순 이동평균
+    EMA(ExponentialMovingAverage::new),  //지수 이동평균
+    RSI(RelativeStrengthIndex::new),  //상대강도지수
+    VWAP(VolumeWeightedAveragePrice::new),  //거래량 가중 평균 가격
+    BOLLINGER(BollingerBands::new);  //볼린저 밴드
+
+    private final IntFunction<Indicator> factory;
+
+    IndicatorType(IntFunction<Indicator> factory) {
+        this.factory = factory;
+    }
+
+    public Indicator create(int window) {
+        return factory.apply(window);
+    }
+}
@@ -0,0 +1,75 @@
+package com.dailog.api.service.stock.indicator;
+
+import com.dailog.api.service.stock.Candle;
+
+/**
+ * 상대강도지수 (Wilder 평활), 처음 window개 변화량의 단순 평균에서 시작한다.
+ */
+class RelativeStrengthIndex implements Indicator {
+
+    private final int window;
+    private boolean started;
+    private double previousClose;
+    private int changes;
+    private double averageGain;
+    private double averageLoss;
+
+    RelativeStrengthIndex(int window) {
+        this.window = window;
+    }
+
+    @Override
+    public int outputCount() {
+        return 1;
+    }
+
+    @Override
+    public boolean evaluate(Candle candle, boolean commit, double[] out) {
+        double close = candle.close();
+        if (!started) {
+            if (commit) {
+                started = true;
+                previousClose = close;
+            }
+            return false;
+        }
+
+        double change = close - previousClose;
+        double gain = Math.max(change, 0.0);
+        double loss = Math.max(-change, 0.0);
+
+        //window개가 모일 때까지는 합을 averageGain/averageLoss에 쌓아 둔다.
+        double nextGain;
+        double nextLoss;
+        boolean ready = changes + 1 >= window;
+        if (changes >= window) {
+            nextGain = (averageGain * (window - 1) + gain) / window;
+            nextLoss = (averageLoss * (window - 1) + loss) / window;
+        } else if (ready) {
+            nextGain = (averageGain + gain) / window;
+            nextLoss = (averageLoss + loss) / window;
+        } else {
+            nextGain = averageGain + gain;
+            nextLoss = averageLoss + loss;
+        }
+
+        if (commit) {
+            previousClose = close;
+            averageGain = nextGain;
+            averageLoss = nextLoss;
+            changes++;
+        }
+        if (!ready) {
+            return false;
+        }
+        out[0] = toRsi(nextGain, nextLoss);
+        return true;
+    }
+
+    private static double toRsi(double gain, double loss) {
+        if (loss == 0.0) {
+            return gain == 0.0 ? 50.0 : 100.0;
+        }
+        return 100.0 - 100.0 / (1.0 + gain / loss);
+    }
+}
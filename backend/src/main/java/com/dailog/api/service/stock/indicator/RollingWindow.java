@@ -0,0 +1,56 @@
+package com.dailog.api.service.stock.indicator;
+
+/**
+ * 최근 capacity개 값의 합과 제곱합을 유지하는 원형 버퍼
+ */
+class RollingWindow {
+
+    private final double[] values;
+    private int next;
+    private int size;
+    private double sum;
+    private double sumOfSquares;
+
+    RollingWindow(int capacity) {
+        this.values = new double[capacity];
+    }
+
+    void add(double value) {
+        if (isFull()) {
+            double evicted = values[next];
+            sum -= evicted;
+            sumOfSquares -= evicted * evicted;
+        } else {
+            size++;
+        }
+        values[next] = value;
+        sum += value;
+        sumOfSquares += value * value;
+        next = (next + 1) % values.length;
+    }
+
+    //가득 찼을 때 다음 add에서 빠지는 값, 아니면 0
+    double evictionCandidate() {
+        return isFull() ? values[next] : 0.0;
+    }
+
+    boolean isFull() {
+        return size == values.length;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return values.length;
+    }
+
+    double sum() {
+        return sum;
+    }
+
+    double sumOfSquares() {
+        return sumOfSquares;
+    }
+}
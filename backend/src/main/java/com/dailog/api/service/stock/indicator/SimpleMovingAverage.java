@@ -0,0 +1,35 @@
+package com.dailog.api.service.stock.indicator;
+
+import com.dailog.api.service.stock.Candle;
+
+/**
+ * 단순 이동평균 (종가)
+ */
+class SimpleMovingAverage implements Indicator {
+
+    private final RollingWindow closes;
+
+    SimpleMovingAverage(int window) {
+        this.closes = new RollingWindow(window);
+    }
+
+    @Override
+    public int outputCount() {
+        return 1;
+    }
+
+    @Override
+    public boolean evaluate(Candle candle, boolean commit, double[] out) {
+        int window = closes.capacity();
+        boolean full = closes.size() + 1 >= window;
+        double sum = closes.sum() - closes.evictionCandidate() + candle.close();
+        if (commit) {
+            closes.add(candle.close());
+        }
+        if (!full) {
+            return false;
+        }
+        out[0] = sum / window;
+        return true;
+    }
+}
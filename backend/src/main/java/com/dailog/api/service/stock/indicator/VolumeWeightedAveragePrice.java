@@ -0,0 +1,41 @@
+package com.dailog.api.service.stock.indicator;
+
+import com.dailog.api.service.stock.Candle;
+
+/**
+ * 최근 window개 봉의 거래량 가중 평균 가격 (대표가: (고가 + 저가 + 종가) / 3)
+ */
+class VolumeWeightedAveragePrice implements Indicator {
+
+    private final RollingWindow priceVolumes;
+    private final RollingWindow volumes;
+
+    VolumeWeightedAveragePrice(int window) {
+        this.priceVolumes = new RollingWindow(window);
+        this.volumes = new RollingWindow(window);
+    }
+
+    @Override
+    public int outputCount() {
+        return 1;
+    }
+
+    @Override
+    public boolean evaluate(Candle candle, boolean commit, double[] out) {
+        double typicalPrice = (candle.high() + candle.low() + candle.close()) / 3.0;
+        double volume = candle.volume();
+        boolean full = volumes.size() + 1 >= volumes.capacity();
+        double priceVolume = priceVolumes.sum() - priceVolumes.evictionCandidate() + typicalPrice * volume;
+        double totalVolume = volumes.sum() - volumes.evictionCandidate() + volume;
+        if (commit) {
+            priceVolumes.add(typicalPrice * volume);
+            volumes.add(volume);
+        }
+        if (!full) {
+            return false;
+        }
+        //거래가 없던 구간은 대표가
+        out[0] = totalVolume > 0.0 ? priceVolume / totalVolume : typicalPrice;
+        return true;
+    }
+}
@@ -0,0 +1,28 @@
+package com.dailog.api.service.views;
+
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글, 사용자마다 24시간 TTL 키를 저장하는 정확한 중복 판별
+ * 메모리 사용량이 게시글 수 x 조회자 수에 비례
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "post.views.dedup", havingValue = "exact", matchIfMissing = true)
+public class ExactPostViewDeduplicator implements PostViewDeduplicator {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Override
+    public boolean isFirstView(Long postId, String viewerId) {
+        String key = "post:viewed:" + postId + ":" + viewerId;
+
+        //key가 없으면 값을 설정하고 true 반환, key가 존재하면 값을 변경하지 않고 false 반환
+        Boolean isNotViewed = redisTemplate.opsForValue().setIfAbsent(key, "Viewed", Duration.ofHours(24));
+        return Boolean.TRUE.equals(isNotViewed);
+    }
+}
@@ -0,0 +1,15 @@
+package com.dailog.api.service.views;
+
+/**
+ * 같은 사용자가 24시간 내에 다시 조회한 경우 조회수를 증가시키지 않기 위한 중복 판별기
+ * post.views.dedup 설정으로 구현체를 선택 (exact, hyperloglog)
+ */
+public interface PostViewDeduplicator {
+
+    /**
+     * @param postId 게시글 ID
+     * @param viewerId 회원 이메일 또는 비회원 IP/User-Agent 해시
+     * @return 처음 조회한 경우 true
+     */
+    boolean isFirstView(Long postId, String viewerId);
+}
@@ -0,0 +1,33 @@
+package com.dailog.api.util;
+
+import io.jsonwebtoken.Claims;
+import java.util.Date;
+import lombok.Getter;
+
+/**
+ * 서명 검증을 마친 JWT의 claim
+ * 요청마다 토큰을 한 번만 파싱하고 필요한 값을 꺼내 쓰기 위한 클래스
+ */
+@Getter
+public class JWTClaims {
+
+    private final String category;
+    private final String username;
+    private final String role;
+    private final Boolean oAuth2Login;
+    private final String provider;
+    private final Date expiration;
+
+    public JWTClaims(Claims claims) {
+        this.category = claims.get("category", String.class);
+        this.username = claims.get("username", String.class);
+        this.role = claims.get("role", String.class);
+        this.oAuth2Login = claims.get("oAuth2Login", Boolean.class);
+        this.provider = claims.get("provider", String.class);
+        this.expiration = claims.getExpiration();
+    }
+
+    public boolean isExpired() {
+        return expiration.before(new Date());
+    }
+}
@@ -2,15 +2,24 @@ package com.dailog.api.util;
 
 import static java.util.Base64.getDecoder;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 @Getter
 @ConfigurationProperties(prefix = "jwt")
@@ -18,22 +27,64 @@ public class JWTUtil {
 
     private final SecretKey secretKey;
 
-    public JWTUtil(String jwtKey) {
+    //서명 검증기는 스레드 안전하므로 한 번만 생성해서 재사용
+    @Getter(AccessLevel.NONE)
+    private final JwtParser jwtParser;
+
+    //검증을 마친 토큰의 claim을 토큰 만료 시점까지 보관하는 캐시 (크기 0이면 사용하지 않음)
+    //조회할 때 전역 락을 잡지 않도록 Caffeine 사용, 토큰 원문이 힙(힙 덤프)에 남지 않도록 SHA-256 해시를 키로 사용
+    @Getter(AccessLevel.NONE)
+    private final Cache<String, JWTClaims> claimsCache;
+
+    public JWTUtil(String jwtKey, @DefaultValue("10000") int claimsCacheSize) {
         this.secretKey = Keys.hmacShaKeyFor(getDecoder().decode(jwtKey));
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
+        this.claimsCache = claimsCacheSize > 0 ? createClaimsCache(claimsCacheSize) : null;
+    }
+
+    /**
+     * 토큰의 서명을 검증하고 claim을 반환
+     * 캐시에 만료되지 않은 claim이 있으면 서명 검증 없이 반환
+     * @throws io.jsonwebtoken.ExpiredJwtException 만료된 토큰
+     * @throws io.jsonwebtoken.JwtException 유효하지 않은 토큰
+     */
+    public JWTClaims parse(String token) {
+        if (claimsCache == null) {
+            return verify(token);
+        }
+
+        String key = hash(token);
+        JWTClaims cached = claimsCache.getIfPresent(key);
+        if (cached != null && !cached.isExpired()) {
+            return cached;
+        }
+
+        //만료된 토큰은 다시 파싱해서 ExpiredJwtException을 발생시킨다.
+        JWTClaims claims = verify(token);
+        claimsCache.put(key, claims);
+        return claims;
+    }
+
+    private JWTClaims verify(String token) {
+        return new JWTClaims(jwtParser.parseSignedClaims(token).getPayload());
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            //모든 JVM은 SHA-256을 지원해야 한다.
+            throw new IllegalStateException(e);
+        }
     }
 
     public String getUsername(String token) {
-        return Jwts.parser().verifyWith(secretKey).build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("username", String.class);
+        return parse(token).getUsername();
     }
 
     public String getRole(String token) {
-        return Jwts.parser().verifyWith(secretKey).build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("role", String.class);
+        return parse(token).getRole();
     }
 
     //public Collection<? extends GrantedAuthority> getRole(String token) {
@@ -58,32 +109,19 @@ public class JWTUtil {
     //}
 
     public Boolean isExpired(String token) {
-        return Jwts.parser().verifyWith(secretKey).build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getExpiration()
-                .before(new Date());
+        return parse(token).isExpired();
     }
 
     public String getCategory(String token) {
-        return Jwts.parser().verifyWith(secretKey).build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("category", String.class);
+        return parse(token).getCategory();
     }
 
     public Boolean isOAuth2Login(String token) {
-        return Jwts.parser().verifyWith(secretKey).build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("oAuth2Login", Boolean.class);
+        return parse(token).getOAuth2Login();
     }
 
     public String getProvider(String token) {
-        return Jwts.parser().verifyWith(secretKey).build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("provider", String.class);
+        return parse(token).getProvider();
     }
 
     public String createJwt(String category, String username, String role,
@@ -101,6 +139,33 @@ public class JWTUtil {
                 .compact();
     }
 
+    private static Cache<String, JWTClaims> createClaimsCache(int maxSize) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+    }
+
+    //토큰이 만료되는 시점에 캐시에서도 제거
+    private static class UntilTokenExpiry implements Expiry<String, JWTClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, JWTClaims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JWTClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JWTClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
     //HMAC 알고리즘으로 임의의 비밀키 생성
     public static String createEncodedKey() throws NoSuchAlgorithmException {
         KeyGenerator keyGen = KeyGenerator.getInstance("HmacSHA256");
@@ -0,0 +1,69 @@
+package com.dailog.api.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 요청을 하나로 합친다.
+ * 처음 들어온 요청만 실제로 호출하고, 나머지는 그 결과(또는 예외)를 함께 받는다.
+ */
+public class SingleFlight<K> {
+
+    private final ConcurrentMap<K, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Counter issued;
+    private final Counter coalesced;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.issued = callCounter(meterRegistry, name, "issued");
+        this.coalesced = callCounter(meterRegistry, name, "coalesced");
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(K key, Supplier<T> supplier) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            coalesced.increment();
+            return (T) join(existing);
+        }
+
+        issued.increment();
+        try {
+            T value = supplier.get();
+            future.complete(value);
+            return value;
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static Object join(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Counter callCounter(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder("single_flight.calls")
+                .tag("name", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
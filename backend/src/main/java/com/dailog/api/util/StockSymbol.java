@@ -0,0 +1,7 @@
+package com.dailog.api.util;
+
+/**
+ * 종목 정보 (티커, 거래소 코드, 회사명)
+ */
+public record StockSymbol(String ticker, String exchange, String name) {
+}
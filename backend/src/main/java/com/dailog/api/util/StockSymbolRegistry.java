@@ -0,0 +1,198 @@
+package com.dailog.api.util;
+
+import com.dailog.api.exception.stock.StockNotFound;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 티커 -> 거래소 코드, 회사명 조회와 자동완성 검색을 담당
+ * 종목 목록은 티커 순으로 정렬한 배열에 열 단위로 저장하고, 다시 읽을 때는 새 스냅샷을 만들어 통째로 교체한다.
+ * stock.symbols.path가 지정되면 해당 파일을 사용하고, 파일이 바뀌면 다시 읽는다.
+ */
+@Slf4j
+@Component
+public class StockSymbolRegistry {
+
+    private static final String DEFAULT_RESOURCE = "stock_mappings.csv";
+    private static final int SEARCH_LIMIT = 5;
+
+    private final String overridePath;
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile long loadedModifiedTime;
+
+    public StockSymbolRegistry(@Value("${stock.symbols.path:}") String overridePath) {
+        this.overridePath = overridePath;
+        if (overridePath.isBlank() || !reloadFromFile()) {
+            loadFromClasspath();
+        }
+    }
+
+    //티커로 거래소 코드를 반환
+    public String getExchangeByTicker(String ticker) {
+        Snapshot current = snapshot;
+        int row = current.indexOf(ticker);
+        if (row < 0) {
+            throw new StockNotFound();
+        }
+        return current.exchanges[row];
+    }
+
+    public Optional<StockSymbol> find(String ticker) {
+        Snapshot current = snapshot;
+        int row = current.indexOf(ticker);
+        if (row < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(current.get(row));
+    }
+
+    //티커 접두사 > 회사명 접두사 > 부분 문자열 순으로 상위 5개를 반환
+    public List<StockSymbol> search(String keyword) {
+        Snapshot current = snapshot;
+        int[] rows = current.searchIndex.search(keyword, SEARCH_LIMIT);
+        if (rows.length == 0) {
+            throw new StockNotFound();
+        }
+
+        List<StockSymbol> stockSymbols = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            stockSymbols.add(current.get(row));
+        }
+        return stockSymbols;
+    }
+
+    public int size() {
+        return snapshot.tickers.length;
+    }
+
+    //파일이 수정된 경우에만 다시 읽는다.
+    @Scheduled(initialDelayString = "${stock.symbols.reload-interval-ms:60000}",
+            fixedDelayString = "${stock.symbols.reload-interval-ms:60000}")
+    public void reloadIfModified() {
+        if (overridePath.isBlank()) {
+            return;
+        }
+        try {
+            long modifiedTime = Files.getLastModifiedTime(Path.of(overridePath)).toMillis();
+            if (modifiedTime != loadedModifiedTime) {
+                reloadFromFile();
+            }
+        } catch (IOException e) {
+            log.error("Error checking stock symbols file {}: {}", overridePath, e.getMessage());
+        }
+    }
+
+    //읽기에 실패하거나 비어 있으면 기존 스냅샷을 유지
+    private synchronized boolean reloadFromFile() {
+        Path path = Path.of(overridePath);
+        try {
+            long modifiedTime = Files.getLastModifiedTime(path).toMillis();
+            Snapshot loaded;
+            try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                loaded = Snapshot.read(reader);
+            }
+            if (loaded.tickers.length == 0) {
+                log.error("Stock symbols file {} is empty", overridePath);
+                return false;
+            }
+            snapshot = loaded;
+            loadedModifiedTime = modifiedTime;
+            log.info("Loaded {} stock symbols from {}", loaded.tickers.length, overridePath);
+            return true;
+        } catch (IOException e) {
+            log.error("Error reading stock symbols file {}: {}", overridePath, e.getMessage());
+            return false;
+        }
+    }
+
+    private void loadFromClasspath() {
+        InputStream inputStream = StockSymbolRegistry.class.getClassLoader().getResourceAsStream(DEFAULT_RESOURCE);
+        if (inputStream == null) {
+            log.error("Stock symbols resource {} not found", DEFAULT_RESOURCE);
+            return;
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            snapshot = Snapshot.read(reader);
+        } catch (IOException e) {
+            log.error("Error reading CSV file: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 한 시점의 종목 목록, 만든 뒤에는 바뀌지 않는다.
+     */
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(new String[0], new String[0], new String[0]);
+
+        private final String[] tickers;    //티커 사전순
+        private final String[] exchanges;  //종류가 몇 개 안 되므로 같은 문자열 인스턴스를 공유
+        private final String[] names;
+        private final TickerSearchIndex searchIndex;
+
+        private Snapshot(String[] tickers, String[] exchanges, String[] names) {
+            this.tickers = tickers;
+            this.exchanges = exchanges;
+            this.names = names;
+            this.searchIndex = new TickerSearchIndex(tickers, names);
+        }
+
+        //형식: 티커,거래소 코드,회사명 (첫 줄은 헤더), 같은 티커가 여러 번 나오면 마지막 값을 사용
+        private static Snapshot read(BufferedReader reader) throws IOException {
+            Map<String, String[]> rows = new TreeMap<>();
+            Map<String, String> exchangeCodes = new HashMap<>();
+
+            reader.readLine();  //헤더
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] columns = line.split(",", 3);
+                if (columns.length < 3) {
+                    continue;
+                }
+                String ticker = columns[0].trim();
+                String exchange = exchangeCodes.computeIfAbsent(columns[1].trim(), code -> code);
+                String company = columns[2].trim();
+                rows.put(ticker, new String[]{exchange, company});
+            }
+
+            String[] tickers = new String[rows.size()];
+            String[] exchanges = new String[rows.size()];
+            String[] names = new String[rows.size()];
+            int row = 0;
+            for (Map.Entry<String, String[]> entry : rows.entrySet()) {
+                tickers[row] = entry.getKey();
+                exchanges[row] = entry.getValue()[0];
+                names[row] = entry.getValue()[1];
+                row++;
+            }
+            return new Snapshot(tickers, exchanges, names);
+        }
+
+        private int indexOf(String ticker) {
+            if (ticker == null) {
+                return -1;
+            }
+            return Arrays.binarySearch(tickers, ticker);
+        }
+
+        private StockSymbol get(int row) {
+            return new StockSymbol(tickers[row], exchanges[row], names[row]);
+        }
+    }
+}
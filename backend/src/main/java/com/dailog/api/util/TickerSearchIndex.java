@@ -0,0 +1,131 @@
+package com.dailog.api.util;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * 티커 자동완성용 불변 검색 인덱스
+ * 티커와 회사명을 각각 정렬해 두고 이진 탐색으로 접두사 범위를 찾은 뒤, 결과가 모자라면 부분 문자열로 보충한다.
+ * 순위: 티커 접두사(정확히 일치 -> 짧은 순) > 회사명 접두사 > 티커 포함 > 회사명 포함, 같은 순위 안에서는 사전순
+ */
+public class TickerSearchIndex {
+
+    private final String[] tickers;
+    private final String[] names;
+    private final int[] byTicker;  //티커 사전순으로 정렬한 행 번호
+    private final int[] byName;    //회사명 사전순(같으면 티커 순)으로 정렬한 행 번호
+
+    public TickerSearchIndex(String[] tickers, String[] names) {
+        if (tickers.length != names.length) {
+            throw new IllegalArgumentException("tickers and names must have the same length");
+        }
+        this.tickers = tickers.clone();
+        this.names = names.clone();
+        this.byTicker = sortedRows(Comparator.comparing(row -> this.tickers[row]));
+        this.byName = sortedRows(Comparator.<Integer, String>comparing(row -> this.names[row])
+                .thenComparing(row -> this.tickers[row]));
+    }
+
+    public int size() {
+        return tickers.length;
+    }
+
+    public String getTicker(int row) {
+        return tickers[row];
+    }
+
+    public String getName(int row) {
+        return names[row];
+    }
+
+    //검색 결과의 행 번호를 순위대로 최대 limit개 반환, 결과 배열 외에는 할당하지 않는다.
+    public int[] search(String keyword, int limit) {
+        if (keyword == null || keyword.isEmpty() || limit <= 0) {
+            return new int[0];
+        }
+
+        int[] result = new int[limit];
+
+        int from = lowerBound(byTicker, tickers, keyword);
+        int to = lowerBound(byTicker, tickers, keyword + Character.MAX_VALUE);
+        int size = collectShortestTickers(from, to, result);
+
+        if (size < limit) {
+            int nameFrom = lowerBound(byName, names, keyword);
+            for (int i = nameFrom; i < byName.length && size < limit && names[byName[i]].startsWith(keyword); i++) {
+                size = addIfAbsent(result, size, byName[i]);
+            }
+        }
+
+        //접두사 결과가 limit보다 적으면 전체를 훑어 부분 문자열 일치로 보충한다.
+        //짧은 검색어는 대부분 여기까지 오므로 O(N)이지만, 할당 없이 indexOf만 호출하고 limit을 채우면 멈춘다.
+        for (int i = 0; i < byTicker.length && size < limit; i++) {
+            int row = byTicker[i];
+            if (tickers[row].indexOf(keyword, 1) > 0) {
+                size = addIfAbsent(result, size, row);
+            }
+        }
+        for (int i = 0; i < byName.length && size < limit; i++) {
+            int row = byName[i];
+            if (names[row].indexOf(keyword, 1) > 0) {
+                size = addIfAbsent(result, size, row);
+            }
+        }
+
+        return size == limit ? result : Arrays.copyOf(result, size);
+    }
+
+    //접두사 범위 안에서 짧은 티커부터 result 크기만큼 선택, 길이가 같으면 사전순
+    private int collectShortestTickers(int from, int to, int[] result) {
+        int size = 0;
+        for (int i = from; i < to; i++) {
+            int row = byTicker[i];
+            int length = tickers[row].length();
+            if (size == result.length && length >= tickers[result[size - 1]].length()) {
+                continue;
+            }
+
+            int pos = size < result.length ? size++ : result.length - 1;
+            while (pos > 0 && tickers[result[pos - 1]].length() > length) {
+                result[pos] = result[pos - 1];
+                pos--;
+            }
+            result[pos] = row;
+        }
+        return size;
+    }
+
+    private static int addIfAbsent(int[] result, int size, int row) {
+        for (int i = 0; i < size; i++) {
+            if (result[i] == row) {
+                return size;
+            }
+        }
+        result[size] = row;
+        return size + 1;
+    }
+
+    //keys[sorted[i]] >= key 를 만족하는 첫 위치
+    private static int lowerBound(int[] sorted, String[] keys, String key) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[sorted[mid]].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int[] sortedRows(Comparator<Integer> comparator) {
+        return IntStream.range(0, tickers.length)
+                .boxed()
+                .sorted(comparator)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+}
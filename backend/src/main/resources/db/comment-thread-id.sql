@@ -0,0 +1,12 @@
+-- 댓글 목록을 (thread_id, comment_id) 인덱스 순서로 조회하기 위한 스레드 ID (운영 DB는 ddl-auto: validate)
+-- 대댓글은 1단계까지만 존재하므로 부모 댓글 ID가 곧 스레드 ID
+
+ALTER TABLE Comment ADD COLUMN thread_id BIGINT;
+
+UPDATE Comment SET thread_id = COALESCE(parent_id, comment_id);
+
+CREATE INDEX IDX_COMMENT_POST_ID_THREAD_ID ON Comment (post_id, thread_id, comment_id);
+
+-- post_id 단일 인덱스는 새 인덱스의 선두 컬럼과 같으므로 제거
+-- (post_id 외래 키가 쓸 인덱스가 남도록 새 인덱스를 먼저 만든다)
+DROP INDEX IDX_COMMENT_POST_ID ON Comment;
@@ -0,0 +1,11 @@
+-- 게시글 목록의 댓글/좋아요 수와 좋아요순 정렬을 위한 카운터 (운영 DB는 ddl-auto: validate)
+-- 기존 게시글은 실제 댓글/좋아요 수로 채운다. 이후 어긋나면 매일 오전 5시 30분 reconcileCounts가 다시 맞춘다.
+
+ALTER TABLE Post ADD COLUMN comment_count BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE Post ADD COLUMN like_count BIGINT DEFAULT 0 NOT NULL;
+
+UPDATE Post p
+SET p.comment_count = (SELECT COUNT(*) FROM Comment c WHERE c.post_id = p.post_id),
+    p.like_count = (SELECT COUNT(*) FROM Likes l WHERE l.post_id = p.post_id);
+
+CREATE INDEX IDX_POST_LIKE_COUNT ON Post (like_count, post_id);
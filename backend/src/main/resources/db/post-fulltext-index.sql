@@ -0,0 +1,7 @@
+-- 게시글 전문 검색용 ngram FULLTEXT 인덱스 (MySQL 5.7.6 이상)
+-- 적용 후 post.search.mode를 fulltext로 변경
+-- 한글 검색을 위해 ngram_token_size는 기본값 2를 사용
+
+ALTER TABLE Post ADD FULLTEXT INDEX FT_POST_TITLE (title) WITH PARSER ngram;
+ALTER TABLE Post ADD FULLTEXT INDEX FT_POST_CONTENT (content) WITH PARSER ngram;
+ALTER TABLE Post ADD FULLTEXT INDEX FT_POST_TITLE_CONTENT (title, content) WITH PARSER ngram;
@@ -0,0 +1,29 @@
+-- 마감된 일/주/월봉 저장소 (운영 DB는 ddl-auto: validate)
+
+CREATE TABLE StockCandle (
+    stock_candle_id BIGINT NOT NULL AUTO_INCREMENT,
+    ticker          VARCHAR(16)    NOT NULL,
+    period_type     VARCHAR(1)     NOT NULL,
+    trade_date      DATE           NOT NULL,
+    open_price      DECIMAL(19, 4),
+    high_price      DECIMAL(19, 4),
+    low_price       DECIMAL(19, 4),
+    close_price     DECIMAL(19, 4),
+    diff_price      DECIMAL(19, 4),
+    change_rate     DECIMAL(19, 4),
+    volume          BIGINT         NOT NULL,
+    PRIMARY KEY (stock_candle_id),
+    CONSTRAINT UK_STOCK_CANDLE UNIQUE (ticker, period_type, trade_date)
+);
+
+CREATE TABLE StockCandleRange (
+    stock_candle_range_id BIGINT      NOT NULL AUTO_INCREMENT,
+    ticker                VARCHAR(16) NOT NULL,
+    period_type           VARCHAR(1)  NOT NULL,
+    from_date             DATE        NOT NULL,
+    to_date               DATE        NOT NULL,
+    reached_start         BIT         NOT NULL,
+    complete_before       DATE,
+    PRIMARY KEY (stock_candle_range_id),
+    CONSTRAINT UK_STOCK_CANDLE_RANGE UNIQUE (ticker, period_type)
+);
@@ -0,0 +1,200 @@
+package com.dailog.api.config.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+class TwoLevelCacheManagerTest {
+
+    private static final String CACHE_NAME = "postDetail";
+
+    //여러 인스턴스가 공유하는 Redis(L2) 캐시
+    private final ConcurrentMapCache redisCache = new ConcurrentMapCache(CACHE_NAME);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RedisTemplate<String, Object> firstRedisTemplate;
+    private RedisTemplate<String, Object> secondRedisTemplate;
+    private TwoLevelCacheManager firstInstance;
+    private TwoLevelCacheManager secondInstance;
+
+    @BeforeEach
+    void setUp() {
+        RedisCacheManager redisCacheManager = mock(RedisCacheManager.class);
+        when(redisCacheManager.getCache(CACHE_NAME)).thenReturn(redisCache);
+
+        firstRedisTemplate = createRedisTemplate();
+        secondRedisTemplate = createRedisTemplate();
+        firstInstance = createCacheManager(redisCacheManager, firstRedisTemplate);
+        secondInstance = createCacheManager(redisCacheManager, secondRedisTemplate);
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisTemplate<String, Object> createRedisTemplate() {
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+        doReturn(new StringRedisSerializer()).when(redisTemplate).getValueSerializer();
+        return redisTemplate;
+    }
+
+    private TwoLevelCacheManager createCacheManager(RedisCacheManager redisCacheManager,
+                                                    RedisTemplate<String, Object> redisTemplate) {
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(redisCacheManager, redisTemplate,
+                meterRegistry, Duration.ofMinutes(1L), 100L);
+        cacheManager.afterPropertiesSet();
+        return cacheManager;
+    }
+
+    //publishEvict/publishClear로 보낸 메시지를 다른 인스턴스가 받은 것처럼 전달
+    private String lastMessage(RedisTemplate<String, Object> redisTemplate) {
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate, atLeastOnce())
+                .convertAndSend(eq(TwoLevelCacheManager.INVALIDATION_CHANNEL), message.capture());
+        return message.getValue();
+    }
+
+    private void deliver(TwoLevelCacheManager cacheManager, String message) {
+        cacheManager.onMessage(new DefaultMessage(
+                TwoLevelCacheManager.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                message.getBytes(StandardCharsets.UTF_8)), null);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("cache.two-level.requests")
+                .tag("cache", CACHE_NAME)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    @Test
+    @DisplayName("L1에 없으면 L2에서 읽어 L1에 채우고, 이후에는 L1에서 반환")
+    void should_ReadThroughRedis_When_LocalMiss() {
+        //given
+        Cache cache = firstInstance.getCache(CACHE_NAME);
+        redisCache.put("1", "상세");
+
+        //when
+        Object fromRedis = cache.get("1").get();
+        redisCache.evict("1");
+        Object fromLocal = cache.get("1").get();
+
+        //then
+        assertEquals("상세", fromRedis);
+        assertEquals("상세", fromLocal);
+        assertNull(cache.get("2"));
+        assertEquals(1.0, requests("redis_hit"));
+        assertEquals(1.0, requests("local_hit"));
+        assertEquals(1.0, requests("miss"));
+    }
+
+    @Test
+    @DisplayName("변경하면 {인스턴스 ID}|{캐시 이름}|{키} 형식으로 무효화 메시지를 보낸다")
+    void should_PublishEviction_When_Evicted() {
+        //given
+        Cache cache = firstInstance.getCache(CACHE_NAME);
+        cache.put("1", "상세");
+
+        //when
+        cache.evict("1");
+
+        //then
+        String[] message = lastMessage(firstRedisTemplate).split("\\|");
+        assertEquals(3, message.length);
+        assertEquals(CACHE_NAME, message[1]);
+        assertEquals("1", message[2]);
+        assertNull(redisCache.get("1"));
+    }
+
+    @Test
+    @DisplayName("캐시 미스 후 채우기는 다른 인스턴스의 L1을 무효화하지 않는다")
+    void should_NotPublish_When_FilledAfterMiss() {
+        //given
+        Cache cache = firstInstance.getCache(CACHE_NAME);
+
+        //when
+        cache.put("1", "상세");
+        cache.get("2", () -> "다른 상세");
+        cache.putIfAbsent("3", "또 다른 상세");
+
+        //then
+        verify(firstRedisTemplate, never()).convertAndSend(anyString(), any());
+        assertEquals("상세", redisCache.get("1").get());
+        assertEquals("다른 상세", cache.get("2").get());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 변경 메시지를 받으면 L1을 비우고 L2의 새 값을 읽는다")
+    void should_EvictLocal_When_OtherInstanceChanged() {
+        //given
+        Cache firstCache = firstInstance.getCache(CACHE_NAME);
+        Cache secondCache = secondInstance.getCache(CACHE_NAME);
+        firstCache.put("1", "수정 전");
+        secondCache.get("1");
+        firstCache.evict("1");
+        firstCache.put("1", "수정 후");
+
+        //when
+        Object beforeMessage = secondCache.get("1").get();
+        deliver(secondInstance, lastMessage(firstRedisTemplate));
+
+        //then
+        assertEquals("수정 전", beforeMessage);
+        assertEquals("수정 후", secondCache.get("1").get());
+    }
+
+    @Test
+    @DisplayName("자신이 보낸 무효화 메시지는 무시한다")
+    void should_IgnoreMessage_When_SentBySelf() {
+        //given
+        Cache cache = firstInstance.getCache(CACHE_NAME);
+        cache.evict("1");
+        cache.put("1", "상세");
+        String message = lastMessage(firstRedisTemplate);
+
+        //when
+        deliver(firstInstance, message);
+        redisCache.evict("1");
+
+        //then
+        assertEquals("상세", cache.get("1").get());
+    }
+
+    @Test
+    @DisplayName("캐시 전체 무효화 메시지를 받으면 L1을 모두 비운다")
+    void should_ClearLocal_When_OtherInstanceCleared() {
+        //given
+        Cache secondCache = secondInstance.getCache(CACHE_NAME);
+        redisCache.put("1", "상세");
+        secondCache.get("1");
+        firstInstance.getCache(CACHE_NAME).clear();
+
+        //when
+        redisCache.put("1", "새 상세");
+        deliver(secondInstance, lastMessage(firstRedisTemplate));
+
+        //then
+        assertEquals(2, lastMessage(firstRedisTemplate).split("\\|").length);
+        assertEquals("새 상세", secondCache.get("1").get());
+    }
+}
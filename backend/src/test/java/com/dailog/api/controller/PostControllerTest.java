@@ -65,6 +65,8 @@ class PostControllerTest {
     private RedisTemplate<String, Object> redisTemplate;
     @Autowired
     private LikesRepository likesRepository;
+    @Autowired
+    private PostService postService;
 
     @AfterEach
     void clean() {
@@ -218,6 +220,34 @@ class PostControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @CustomMockMember
+    @DisplayName("검색 조건 없이 cursor만 보내도 커서 기반으로 조회")
+    void should_GetPostsByCursor_When_OnlyCursorGiven() throws Exception {
+        //given
+        Member member = memberRepository.findAll().get(0);
+
+        List<Post> requestPosts = IntStream.range(1, 31)
+                .mapToObj(i -> Post.builder()
+                        .title("제목 " + i)
+                        .content("내용 " + i)
+                        .member(member)
+                        .build())
+                .toList();
+
+        postRepository.saveAll(requestPosts);
+
+        //expected
+        mockMvc.perform(get("/api/posts?cursor=&size=10")
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()", is(10)))
+                .andExpect(jsonPath("$.items.[0].title").value("제목 30"))
+                .andExpect(jsonPath("$.totalCount").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").exists())
+                .andDo(print());
+    }
+
     @Test
     @CustomMockMember
     @DisplayName("페이지를 0으로 요청하면 첫 페이지를 가져온다.")
@@ -762,7 +792,7 @@ class PostControllerTest {
 
         Post findPost = postRepository.findById(postId)
                 .orElseThrow(PostNotFound::new);
-        Integer views = (Integer) redisTemplate.opsForValue().get("post:views:" + findPost.getId());
+        Integer views = (Integer) redisTemplate.opsForValue().get("post:views:pending:" + findPost.getId());
         assertEquals(userCount, views);
     }
 
@@ -846,6 +876,7 @@ class PostControllerTest {
                 .post(requestPosts.get(0))
                 .build();
         likesRepository.save(likes);
+        postService.reconcileCounts();
 
         //expected
         String pagination = "page=1&size=10&sortByLikes=true";
@@ -430,4 +430,43 @@ class CommentServiceTest {
         assertEquals("1번째 대댓글", pagingResponse.getItems().get(1).getContent());
         assertEquals("19번째 대댓글", pagingResponse.getItems().get(19).getContent());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("대댓글은 작성 시점과 관계없이 부모 댓글 바로 뒤에 작성 순으로 조회되고 그 순서대로 페이지가 나뉜다")
+    void should_OrderRepliesUnderParent_When_Paged() {
+        //given
+        Member member = getMember();
+        Post post = getPost(member);
+
+        Comment first = commentRepository.save(Comment.builder()
+                .member(member)
+                .post(post)
+                .content("첫 번째 댓글")
+                .build());
+        Comment second = commentRepository.save(Comment.builder()
+                .member(member)
+                .post(post)
+                .content("두 번째 댓글")
+                .build());
+        IntConsumer reply = i -> commentRepository.save(Comment.builder()
+                .member(member)
+                .post(post)
+                .content(i + "번째 대댓글")
+                .parentComment(i % 2 == 1 ? first : second)
+                .build());
+        IntStream.range(1, 5).forEach(reply);
+
+        //when
+        PagingResponse<CommentResponse> firstPage = commentService.getList(post.getId(),
+                CommentPageRequest.builder().page(1).size(3).build());
+        PagingResponse<CommentResponse> secondPage = commentService.getList(post.getId(),
+                CommentPageRequest.builder().page(2).size(3).build());
+
+        //then
+        assertEquals(List.of("첫 번째 댓글", "1번째 대댓글", "3번째 대댓글"),
+                firstPage.getItems().stream().map(CommentResponse::getContent).toList());
+        assertEquals(List.of("두 번째 댓글", "2번째 대댓글", "4번째 대댓글"),
+                secondPage.getItems().stream().map(CommentResponse::getContent).toList());
+        assertEquals(6L, secondPage.getTotalCount());
+    }
+}
@@ -58,6 +58,24 @@ class LikesServiceTest {
         assertEquals(1L, likesRepository.count());
     }
 
+    @Test
+    @DisplayName("좋아요를 누르거나 취소하면 게시글의 좋아요 수가 갱신된다.")
+    void should_UpdateLikeCount_When_LikeAndCancel() {
+        //given
+        Member member = getMember();
+        Post post = getPost(member);
+
+        //when
+        likesService.like(member.getEmail(), post.getId());
+        long likedCount = postRepository.findById(post.getId()).orElseThrow().getLikeCount();
+        likesService.cancelLike(member.getEmail(), post.getId());
+        long canceledCount = postRepository.findById(post.getId()).orElseThrow().getLikeCount();
+
+        //then
+        assertEquals(1L, likedCount);
+        assertEquals(0L, canceledCount);
+    }
+
     @Test
     @DisplayName("게시글에 좋아요는 1번만 누를 수 있다.")
     void should_NotAllowDuplicateLike_When_SamePost() {
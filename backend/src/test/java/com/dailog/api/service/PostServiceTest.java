@@ -4,9 +4,13 @@ import static com.dailog.api.domain.enums.Role.ADMIN;
 import static com.dailog.api.domain.enums.Role.MEMBER;
 import static java.time.LocalDateTime.now;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.dailog.api.config.cache.CacheNames;
 import com.dailog.api.domain.Comment;
 import com.dailog.api.domain.Likes;
 import com.dailog.api.domain.Member;
@@ -25,6 +29,8 @@ import com.dailog.api.response.PagingResponse;
 import com.dailog.api.response.post.PostDetailResponse;
 import com.dailog.api.response.post.PostIdResponse;
 import com.dailog.api.response.post.PostListResponse;
+import com.dailog.api.service.views.HyperLogLogPostViewDeduplicator;
+import com.dailog.api.service.views.PostViewDeduplicator;
 import java.util.List;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,6 +40,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
@@ -56,12 +64,17 @@ class PostServiceTest {
     private PasswordEncoder passwordEncoder;
     @Autowired
     private CommentRepository commentRepository;
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+    @Autowired
+    private CacheManager cacheManager;
 
     @BeforeEach
     void clean() {
         likesRepository.deleteAll();
         postRepository.deleteAll();
         memberRepository.deleteAll();
+        cacheManager.getCache(CacheNames.POST_DETAIL).clear();
     }
 
     private Member getMember() {
@@ -187,6 +200,7 @@ class PostServiceTest {
                                 likesRepository.save(likes);
                             }
                         });
+        postService.reconcileCounts();
 
         PostPageRequest postPageRequest = PostPageRequest.builder()
                 .page(1)
@@ -207,6 +221,188 @@ class PostServiceTest {
         assertEquals(1L, pagingResponse.getItems().get(9).getLikes());
     }
 
+    @Test
+    @Transactional(readOnly = true)
+    @DisplayName("글 목록 커서 기반 조회")
+    void should_GetNextPosts_When_CursorGiven() {
+        //given
+        Member member = getMember();
+
+        List<Post> requestPosts = IntStream.range(1, 31)
+                .mapToObj(i -> Post.builder()
+                        .title("제목 " + i)
+                        .content("내용 " + i)
+                        .member(member)
+                        .build())
+                .toList();
+        postRepository.saveAll(requestPosts);
+
+        PostSearch postSearch = new PostSearch();
+        PagingResponse<PostListResponse> firstPage = postService.getListByCursor(postSearch,
+                PostPageRequest.builder().cursor("").build());
+
+        //when
+        PagingResponse<PostListResponse> secondPage = postService.getListByCursor(postSearch,
+                PostPageRequest.builder().cursor(firstPage.getNextCursor()).build());
+
+        //then
+        assertNull(firstPage.getTotalCount());
+        assertNotNull(firstPage.getNextCursor());
+        assertEquals("제목 30", firstPage.getItems().get(0).getTitle());
+        assertEquals("제목 20", secondPage.getItems().get(0).getTitle());
+        assertEquals("제목 11", secondPage.getItems().get(9).getTitle());
+    }
+
+    @Test
+    @Transactional(readOnly = true)
+    @DisplayName("글 목록 조회 시 Redis에 저장된 조회수를 반영한다.")
+    void should_GetViewsFromRedis_When_GetPagedPosts() {
+        //given
+        Member member = getMember();
+
+        List<Post> requestPosts = IntStream.range(1, 4)
+                .mapToObj(i -> Post.builder()
+                        .title("제목 " + i)
+                        .content("내용 " + i)
+                        .member(member)
+                        .build())
+                .toList();
+        postRepository.saveAll(requestPosts);
+
+        Post viewedPost = requestPosts.get(2);
+        postService.incrementViews(viewedPost.getId());
+        postService.incrementViews(viewedPost.getId());
+
+        //when
+        PagingResponse<PostListResponse> pagingResponse = postService.getList(new PostSearch(),
+                PostPageRequest.builder().build());
+
+        //then
+        assertEquals(2L, pagingResponse.getItems().get(0).getViews());
+        assertEquals(0L, pagingResponse.getItems().get(1).getViews());
+        assertEquals(0L, postService.get(requestPosts.get(1).getId()).getViews());
+    }
+
+    @Test
+    @DisplayName("Redis에 쌓인 조회수를 DB에 반영한다.")
+    void should_FlushViewsToDatabase_When_Scheduled() {
+        //given
+        Member member = getMember();
+
+        Post post = Post.builder()
+                .title("제목")
+                .content("내용")
+                .member(member)
+                .build();
+        postRepository.save(post);
+
+        IntStream.range(0, 3).forEach(i -> postService.incrementViews(post.getId()));
+
+        //when
+        postService.updateViewsToDatabase();
+        postService.incrementViews(post.getId());
+
+        //then
+        Post flushedPost = postRepository.findById(post.getId())
+                .orElseThrow(PostNotFound::new);
+        assertEquals(3L, flushedPost.getViews());
+        assertEquals(4L, postService.get(post.getId()).getViews());
+    }
+
+    @Test
+    @DisplayName("이전 버전의 누적 조회수 키는 DB에 한 번만 반영되고 이후 증가분과 겹치지 않는다.")
+    void should_MigrateLegacyViewsOnce_When_Started() {
+        //given
+        Member member = getMember();
+
+        Post post = Post.builder()
+                .title("제목")
+                .content("내용")
+                .member(member)
+                .build();
+        postRepository.save(post);
+        jdbcTemplate.update("UPDATE Post SET views = 3 WHERE post_id = ?", post.getId());
+        redisTemplate.opsForValue().set("post:views:" + post.getId(), 10);
+
+        //when
+        postService.migrateLegacyViews();
+        postService.incrementViews(post.getId());
+        postService.updateViewsToDatabase();
+
+        //then
+        Post flushedPost = postRepository.findById(post.getId())
+                .orElseThrow(PostNotFound::new);
+        assertEquals(11L, flushedPost.getViews());
+        assertFalse(redisTemplate.hasKey("post:views:" + post.getId()));
+    }
+
+    @Test
+    @DisplayName("HyperLogLog 중복 판별은 같은 조회자를 한 번만 센다.")
+    void should_CountViewerOnce_When_HyperLogLogDeduplicator() {
+        //given
+        PostViewDeduplicator deduplicator = new HyperLogLogPostViewDeduplicator(redisTemplate);
+        long postId = System.nanoTime();
+
+        //when
+        boolean firstView = deduplicator.isFirstView(postId, "user:1");
+        boolean secondView = deduplicator.isFirstView(postId, "user:1");
+        boolean otherViewer = deduplicator.isFirstView(postId, "user:2");
+
+        //then
+        assertTrue(firstView);
+        assertFalse(secondView);
+        assertTrue(otherViewer);
+    }
+
+    @Test
+    @DisplayName("HyperLogLog 중복 판별은 레지스터 수보다 조회자가 많아도 추정치만큼 센다.")
+    void should_CountCloseToUniqueViewers_When_ManyViewers() {
+        //given
+        PostViewDeduplicator deduplicator = new HyperLogLogPostViewDeduplicator(redisTemplate);
+        long postId = System.nanoTime();
+        int viewers = 50_000;
+
+        //when
+        long counted = IntStream.range(0, viewers)
+                .filter(i -> deduplicator.isFirstView(postId, "user:" + i))
+                .count();
+
+        //then
+        assertTrue(Math.abs(counted - viewers) < viewers * 0.03, "counted: " + counted);
+    }
+
+    @Test
+    @DisplayName("글 수정 후 상세 조회 시 캐시가 무효화된다")
+    void should_EvictPostDetailCache_When_PostEdited() {
+        //given
+        Member member = getMember();
+
+        Post post = Post.builder()
+                .title("제목 수정 전")
+                .content("내용 수정 전")
+                .member(member)
+                .build();
+        postRepository.save(post);
+
+        PostDetailResponse cachedPost = postService.get(post.getId());
+        postService.incrementViews(post.getId());
+
+        PostEdit postEdit = PostEdit.builder()
+                .title("제목 수정 후")
+                .content(null)
+                .build();
+
+        //when
+        postService.edit(post.getId(), postEdit, member.getEmail());
+        PostDetailResponse editedPost = postService.get(post.getId());
+
+        //then
+        assertEquals("제목 수정 전", cachedPost.getTitle());
+        assertEquals("제목 수정 후", editedPost.getTitle());
+        assertEquals(1L, editedPost.getViews());
+        redisTemplate.delete("post:views:pending:" + post.getId());
+    }
+
     @Test
     @DisplayName("글 제목 수정")
     void should_EditPostTitle_When_ValidEditRequest() {
@@ -0,0 +1,55 @@
+package com.dailog.api.service.stock;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.dailog.api.response.stock.StockChartColumns;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CandleSeriesTest {
+
+    private final List<Candle> candles = List.of(
+            new Candle("20240628", 215.77, 216.07, 210.3, 210.62, -3.48, -1.63, 82542718L),
+            new Candle("20240627", 214.69, 215.7395, 212.35, 214.1, 0.85, 0.4, 49772707L));
+
+    @Test
+    @DisplayName("일봉은 필드별 숫자 배열로 변환")
+    void should_ConvertToColumns_When_Daily() {
+        //when
+        StockChartColumns columns = CandleSeries.daily(candles).getColumns();
+
+        //then
+        assertEquals(List.of("20240628", "20240627"), columns.getDates());
+        assertArrayEquals(new double[]{210.62, 214.1}, columns.getClose());
+        assertArrayEquals(new double[]{216.07, 215.7395}, columns.getHigh());
+        assertArrayEquals(new double[]{-3.48, 0.85}, columns.getDiff());
+        assertArrayEquals(new long[]{82542718L, 49772707L}, columns.getVolume());
+    }
+
+    @Test
+    @DisplayName("분봉은 전일 대비 필드 없이 변환")
+    void should_OmitDiffAndRate_When_Minutes() {
+        //when
+        StockChartColumns columns = CandleSeries.minutes(candles).getColumns();
+
+        //then
+        assertNull(columns.getDiff());
+        assertNull(columns.getRate());
+        assertNull(CandleSeries.minutes(candles).getStockCharts().get(0).getVolume());
+    }
+
+    @Test
+    @DisplayName("변환 결과는 한 번 만들고 재사용")
+    void should_ReuseConvertedResponse_When_RequestedAgain() {
+        //given
+        CandleSeries candleSeries = CandleSeries.daily(candles);
+
+        //expected
+        assertSame(candleSeries.getColumns(), candleSeries.getColumns());
+        assertSame(candleSeries.getStockCharts(), candleSeries.getStockCharts());
+    }
+}
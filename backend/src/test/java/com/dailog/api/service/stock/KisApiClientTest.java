@@ -0,0 +1,78 @@
+package com.dailog.api.service.stock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.dailog.api.exception.stock.StockUnavailable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+class KisApiClientTest {
+
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+    private final KisApiClient kisApiClient = new KisApiClient(restTemplate, mock(KisRateLimiter.class),
+            new SimpleMeterRegistry(), 50, 2, 4, 30_000L, 8);
+
+    @Test
+    @DisplayName("4xx 응답은 서킷 브레이커 실패로 세지 않는다")
+    void should_StayClosed_When_ClientError() {
+        //given
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
+                .thenThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+
+        //when
+        for (int i = 0; i < 4; i++) {
+            assertThrows(StockUnavailable.class, this::callPriceDetail);
+        }
+
+        //then
+        assertEquals(KisCircuitBreaker.State.CLOSED, kisApiClient.getCircuitState(KisEndpoint.PRICE_DETAIL));
+    }
+
+    @Test
+    @DisplayName("5xx 응답이 이어지면 차단")
+    void should_Open_When_ServerError() {
+        //given
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
+                .thenThrow(new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
+
+        //when
+        assertThrows(StockUnavailable.class, this::callPriceDetail);
+        assertThrows(StockUnavailable.class, this::callPriceDetail);
+
+        //then
+        assertEquals(KisCircuitBreaker.State.OPEN, kisApiClient.getCircuitState(KisEndpoint.PRICE_DETAIL));
+    }
+
+    @Test
+    @DisplayName("연결 실패나 타임아웃이 이어지면 차단")
+    void should_Open_When_TransportError() {
+        //given
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
+                .thenThrow(new ResourceAccessException("Read timed out"));
+
+        //when
+        assertThrows(StockUnavailable.class, this::callPriceDetail);
+        assertThrows(StockUnavailable.class, this::callPriceDetail);
+
+        //then
+        assertEquals(KisCircuitBreaker.State.OPEN, kisApiClient.getCircuitState(KisEndpoint.PRICE_DETAIL));
+    }
+
+    private void callPriceDetail() {
+        kisApiClient.exchange(KisApiClient.API_URL, HttpMethod.GET, HttpEntity.EMPTY, KisEndpoint.PRICE_DETAIL);
+    }
+}
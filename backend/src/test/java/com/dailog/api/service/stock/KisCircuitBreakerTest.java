@@ -0,0 +1,104 @@
+package com.dailog.api.service.stock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KisCircuitBreakerTest {
+
+    private static final Instant NOW = Instant.parse("2024-07-01T14:00:00Z");
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30L);
+
+    private final MovableClock clock = new MovableClock();
+
+    private KisCircuitBreaker newCircuitBreaker(int minimumCalls) {
+        return new KisCircuitBreaker("PRICE_DETAIL", 50, minimumCalls, 10, OPEN_DURATION, clock,
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("최소 호출 수 이후 실패 비율이 기준을 넘으면 차단")
+    void should_Open_When_FailureRateExceeded() {
+        //given
+        KisCircuitBreaker circuitBreaker = newCircuitBreaker(4);
+
+        //when
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        assertEquals(KisCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+
+        //then
+        assertEquals(KisCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+    }
+
+    @Test
+    @DisplayName("차단 시간이 지나면 한 번만 시험 호출하고 성공하면 다시 연결")
+    void should_AllowSingleProbeAndClose_When_OpenDurationPassed() {
+        //given
+        KisCircuitBreaker circuitBreaker = newCircuitBreaker(2);
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        clock.now = NOW.plus(OPEN_DURATION);
+
+        //when
+        boolean probe = circuitBreaker.tryAcquirePermission();
+        boolean concurrentCall = circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onSuccess();
+
+        //then
+        assertTrue(probe);
+        assertFalse(concurrentCall);
+        assertEquals(KisCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 차단")
+    void should_OpenAgain_When_ProbeFails() {
+        //given
+        KisCircuitBreaker circuitBreaker = newCircuitBreaker(2);
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        clock.now = NOW.plus(OPEN_DURATION);
+
+        //when
+        circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onFailure();
+
+        //then
+        assertEquals(KisCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+    }
+
+    private static class MovableClock extends Clock {
+
+        private Instant now = NOW;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.dailog.api.service.stock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.dailog.api.exception.stock.StockRateLimited;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KisRateLimiterTest {
+
+    @Test
+    @DisplayName("버킷의 토큰을 모두 쓰면 최대 대기 시간 후 거절")
+    void should_Reject_When_NoTokenWithinMaxWait() {
+        //given
+        KisRateLimiter rateLimiter = new KisRateLimiter(1, 2, 10, 50L, new SimpleMeterRegistry());
+
+        //when
+        rateLimiter.acquire(KisCallPriority.QUOTE);
+        rateLimiter.acquire(KisCallPriority.QUOTE);
+
+        //then
+        assertThrows(StockRateLimited.class, () -> rateLimiter.acquire(KisCallPriority.QUOTE));
+        assertEquals(0, rateLimiter.getQueueDepth());
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 바로 거절")
+    void should_Reject_When_QueueFull() {
+        //given
+        KisRateLimiter rateLimiter = new KisRateLimiter(1, 1, 0, 1000L, new SimpleMeterRegistry());
+
+        //expected
+        assertThrows(StockRateLimited.class, () -> rateLimiter.acquire(KisCallPriority.QUOTE));
+    }
+
+    @Test
+    @DisplayName("현재가 요청이 차트 요청보다 먼저 토큰을 받는다")
+    void should_GrantQuoteFirst_When_BothWaiting() throws InterruptedException {
+        //given
+        KisRateLimiter rateLimiter = new KisRateLimiter(10, 1, 10, 2000L, new SimpleMeterRegistry());
+        rateLimiter.acquire(KisCallPriority.HISTORY);
+        List<KisCallPriority> granted = new CopyOnWriteArrayList<>();
+
+        //when
+        Thread history = new Thread(() -> {
+            rateLimiter.acquire(KisCallPriority.HISTORY);
+            granted.add(KisCallPriority.HISTORY);
+        });
+        Thread quote = new Thread(() -> {
+            rateLimiter.acquire(KisCallPriority.QUOTE);
+            granted.add(KisCallPriority.QUOTE);
+        });
+        history.start();
+        Thread.sleep(30L);
+        quote.start();
+        history.join();
+        quote.join();
+
+        //then
+        assertEquals(List.of(KisCallPriority.QUOTE, KisCallPriority.HISTORY), granted);
+    }
+}
@@ -0,0 +1,114 @@
+package com.dailog.api.service.stock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dailog.api.exception.stock.StockUnavailable;
+import com.dailog.api.response.stock.StockChart;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KisResponseParserTest {
+
+    private final KisResponseParser kisResponseParser = new KisResponseParser();
+
+    @Test
+    @DisplayName("기간별 시세 응답을 숫자 필드로 파싱")
+    void should_ParseDailyCandles_When_ResponseOk() {
+        //given
+        String body = """
+                {"output1":{"rsym":"DNASAAPL","zdiv":"4","nrec":"2"},
+                 "output2":[
+                   {"xymd":"20240628","clos":"210.6200","sign":"5","diff":"-3.4800","rate":"-1.63",
+                    "open":"215.7700","high":"216.0700","low":"210.3000","tvol":"82542718","tamt":"17514112548"},
+                   {"xymd":"20240627","clos":"214.1000","sign":"2","diff":"0.8500","rate":"+0.40",
+                    "open":"214.6900","high":"215.7395","low":"212.3500","tvol":"49772707","tamt":"10658245120"}],
+                 "rt_cd":"0","msg_cd":"MCA00000","msg1":"정상처리 되었습니다."}
+                """;
+
+        //when
+        List<Candle> candles = kisResponseParser.parseDailyCandles(body);
+
+        //then
+        assertEquals(2, candles.size());
+        assertEquals(new Candle("20240628", 215.77, 216.07, 210.3, 210.62, -3.48, -1.63, 82542718L), candles.get(0));
+        assertEquals(0.4, candles.get(1).rate());
+    }
+
+    @Test
+    @DisplayName("현재가 상세 응답에서 오늘 봉을 만들 시가, 고가, 저가, 거래량도 파싱")
+    void should_ParseDayRange_When_QuoteResponseOk() {
+        //given
+        String body = """
+                {"output":{"rsym":"DNASAAPL","open":"215.7700","high":"216.0700","low":"210.3000","last":"210.6200",
+                  "base":"214.1000","tvol":"82542718","tomv":"3229616340000","shar":"15334082000"},
+                 "rt_cd":"0","msg_cd":"MCA00000","msg1":"정상처리 되었습니다."}
+                """;
+
+        //when
+        KisQuote quote = kisResponseParser.parseQuote(body);
+
+        //then
+        assertEquals(215.77, quote.open());
+        assertEquals(216.07, quote.high());
+        assertEquals(210.3, quote.low());
+        assertEquals(210.62, quote.last());
+        assertEquals(82542718L, quote.volume());
+    }
+
+    @Test
+    @DisplayName("분봉 응답은 한국 기준 일자와 시간을 합쳐서 파싱하고, 다음 페이지 키는 마지막 분봉의 현지 시간 1분 전")
+    void should_ParseMinuteCandles_When_ResponseOk() {
+        //given
+        String body = """
+                {"rt_cd":"0","msg1":"정상처리 되었습니다.",
+                 "output1":{"rsym":"DNASAAPL","nrec":"1","next":"1","more":"1"},
+                 "output2":[{"tymd":"20240628","xymd":"20240628","xhms":"155900","kymd":"20240629","khms":"045900",
+                   "open":"210.5000","high":"210.7000","low":"210.3000","last":"210.6200","evol":"1200","eamt":"252744"}]}
+                """;
+
+        //when
+        MinuteBarPage page = kisResponseParser.parseMinutePage(body);
+
+        //then
+        List<Candle> candles = page.candles();
+        assertEquals(1, candles.size());
+        assertEquals("20240629045900", candles.get(0).date());
+        assertEquals(210.62, candles.get(0).close());
+        assertEquals(1200L, candles.get(0).volume());
+        assertTrue(page.hasNext());
+        assertEquals("20240628155800", page.nextKey());
+    }
+
+    @Test
+    @DisplayName("응답 코드가 실패면 StockUnavailable")
+    void should_ThrowStockUnavailable_When_ResultCodeFailed() {
+        //given
+        String body = """
+                {"rt_cd":"1","msg_cd":"EGW00201","msg1":"초당 거래건수를 초과하였습니다.","output2":[]}
+                """;
+
+        //expected
+        assertThrows(StockUnavailable.class, () -> kisResponseParser.parseDailyCandles(body));
+        assertThrows(StockUnavailable.class, () -> kisResponseParser.parseQuote("not json"));
+    }
+
+    @Test
+    @DisplayName("봉은 소수점 둘째 자리까지 반올림해서 응답 형식으로 변환")
+    void should_FormatTwoDecimals_When_ConvertedToStockChart() {
+        //given
+        Candle candle = new Candle("20240628", 215.775, 216.07, 210.3, 210.62, -3.48, -1.625, 82542718L);
+
+        //when
+        StockChart stockChart = CandleSeries.daily(List.of(candle)).getStockCharts().get(0);
+
+        //then
+        assertEquals("215.78", stockChart.getOpen());
+        assertEquals("210.30", stockChart.getLow());
+        assertEquals("-3.48", stockChart.getDiff());
+        assertEquals("-1.63", stockChart.getRate());
+        assertEquals("82542718", stockChart.getVolume());
+    }
+}
@@ -0,0 +1,107 @@
+package com.dailog.api.service.stock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.dailog.api.exception.stock.StockUnavailable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+
+class KisTokenManagerTest {
+
+    private static final String TOKEN_RESPONSE =
+            "{\"access_token\":\"new-token\",\"token_type\":\"Bearer\",\"expires_in\":86400}";
+
+    private final KisApiClient kisApiClient = mock(KisApiClient.class);
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final KisTokenManager kisTokenManager = new KisTokenManager(kisApiClient, new KisResponseParser(),
+            redisTemplate, meterRegistry, "app-key", "app-secret", Duration.ofHours(1L).toMillis(), 10000L, 300L);
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(KisTokenManager.LOCK_KEY), anyString(), any(Duration.class)))
+                .thenReturn(true);
+        when(kisApiClient.exchange(anyString(), eq(HttpMethod.POST), any(), eq(KisEndpoint.TOKEN)))
+                .thenReturn(ResponseEntity.ok(TOKEN_RESPONSE));
+    }
+
+    @Test
+    @DisplayName("Redis에 저장된 토큰을 가져온 뒤에는 로컬 토큰을 사용")
+    void should_UseLocalToken_When_LoadedFromRedis() {
+        //given
+        givenStoredToken("stored-token", Duration.ofHours(20L));
+
+        //when
+        kisTokenManager.getToken();
+        String token = kisTokenManager.getToken();
+
+        //then
+        assertEquals("stored-token", token);
+        verify(valueOperations, times(1)).get(KisTokenManager.TOKEN_KEY);
+        verify(kisApiClient, never()).exchange(anyString(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("저장된 토큰이 없으면 락을 얻고 발급해서 Redis에 저장")
+    void should_IssueAndStoreToken_When_NotStored() {
+        //when
+        String token = kisTokenManager.getToken();
+
+        //then
+        assertEquals("new-token", token);
+        verify(valueOperations).set(KisTokenManager.TOKEN_KEY, "new-token", Duration.ofSeconds(86400L - 60L));
+        assertEquals(1.0, meterRegistry.counter("stock.token.refresh", "result", "success").count());
+    }
+
+    @Test
+    @DisplayName("만료가 가까운 토큰은 요청 전에 미리 갱신")
+    void should_RefreshAhead_When_TokenExpiringSoon() {
+        //given
+        givenStoredToken("old-token", Duration.ofMinutes(30L));
+        kisTokenManager.getToken();
+
+        //when
+        kisTokenManager.refreshIfExpiring();
+
+        //then
+        assertEquals("new-token", kisTokenManager.getToken());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 발급 중이면 발급하지 않고 Redis에 저장되기를 기다린다")
+    void should_WaitForOtherInstance_When_LockHeld() {
+        //given
+        when(valueOperations.setIfAbsent(eq(KisTokenManager.LOCK_KEY), anyString(), any(Duration.class)))
+                .thenReturn(false);
+
+        //expected
+        assertThrows(StockUnavailable.class, kisTokenManager::getToken);
+        verify(kisApiClient, never()).exchange(anyString(), any(), any(), any());
+    }
+
+    private void givenStoredToken(String token, Duration ttl) {
+        when(valueOperations.get(KisTokenManager.TOKEN_KEY)).thenReturn(token);
+        when(redisTemplate.getExpire(KisTokenManager.TOKEN_KEY, TimeUnit.MILLISECONDS)).thenReturn(ttl.toMillis());
+    }
+}
@@ -0,0 +1,129 @@
+package com.dailog.api.service.stock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MinuteBarBufferTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 6, 28, 22, 30);
+    private static final DateTimeFormatter FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final MinuteBarBuffer minuteBarBuffer = new MinuteBarBuffer(1200, 10, 100L, 1800000L);
+
+    private Candle getCandle(int minute, double close) {
+        return new Candle(START.plusMinutes(minute).format(FORMAT), close - 0.5, close + 1.0, close - 1.0, close,
+                0.0, 0.0, 100L);
+    }
+
+    //START + from분부터 START + to분 전까지, 최신 -> 과거 순
+    private List<Candle> getCandles(int from, int to) {
+        List<Candle> candles = new ArrayList<>();
+        for (int minute = to - 1; minute >= from; minute--) {
+            candles.add(getCandle(minute, 100.0 + minute));
+        }
+        return candles;
+    }
+
+    @Test
+    @DisplayName("처음 조회하면 다음 페이지가 없을 때까지 연속 조회 키로 이어서 조회")
+    void should_FetchAllPages_When_BufferEmpty() {
+        //given
+        List<String> nextKeys = new ArrayList<>();
+
+        //when
+        MinuteBars minuteBars = minuteBarBuffer.refresh("AAPL", nextKey -> {
+            nextKeys.add(nextKey);
+            return switch (nextKeys.size()) {
+                case 1 -> new MinuteBarPage(getCandles(120, 240), true, "key1");
+                case 2 -> new MinuteBarPage(getCandles(0, 120), false, "key2");
+                default -> throw new IllegalStateException();
+            };
+        });
+
+        //then
+        assertEquals(List.of("", "key1"), nextKeys);
+        assertEquals(240, minuteBars.getCandles().size());
+        assertEquals(getCandle(239, 339.0).date(), minuteBars.getCandles().get(0).date());
+    }
+
+    @Test
+    @DisplayName("이미 받은 분봉과 겹치면 더 조회하지 않고 가장 최근 분봉은 새 값으로 덮어쓴다")
+    void should_StopPaging_When_OverlapsBuffer() {
+        //given
+        minuteBarBuffer.refresh("AAPL", nextKey -> new MinuteBarPage(getCandles(0, 120), false, "key"));
+        List<String> nextKeys = new ArrayList<>();
+
+        //when
+        MinuteBars minuteBars = minuteBarBuffer.refresh("AAPL", nextKey -> {
+            nextKeys.add(nextKey);
+            List<Candle> candles = new ArrayList<>(getCandles(10, 125));
+            candles.set(5, getCandle(119, 500.0));  //마감 전에 받았던 119분 봉
+            return new MinuteBarPage(candles, true, "key");
+        });
+
+        //then
+        assertEquals(List.of(""), nextKeys);
+        assertEquals(125, minuteBars.getCandles().size());
+        assertEquals(500.0, minuteBars.getCandles().get(5).close());
+    }
+
+    @Test
+    @DisplayName("1분봉을 모아서 5분봉을 만든다")
+    void should_AggregateBars_When_IntervalRequested() {
+        //given
+        MinuteBars minuteBars = minuteBarBuffer.refresh("AAPL",
+                nextKey -> new MinuteBarPage(getCandles(0, 12), false, "key"));
+
+        //when
+        List<Candle> candles = minuteBars.getSeries(5).getCandles();
+
+        //then
+        assertEquals(3, candles.size());
+        assertEquals(new Candle("20240628224000", 109.5, 112.0, 109.0, 111.0, 0.0, 0.0, 200L), candles.get(0));
+        assertEquals(new Candle("20240628223500", 104.5, 110.0, 104.0, 109.0, 0.0, 0.0, 500L), candles.get(1));
+        assertEquals("20240628223000", candles.get(2).date());
+    }
+
+    @Test
+    @DisplayName("증권사 API를 기다리는 동안에는 버퍼를 잠그지 않는다")
+    void should_NotBlockOtherRefresh_When_Fetching() throws Exception {
+        //given
+        minuteBarBuffer.refresh("AAPL", nextKey -> new MinuteBarPage(getCandles(0, 120), false, "key"));
+        List<MinuteBars> concurrentResult = new ArrayList<>();
+
+        //when
+        minuteBarBuffer.refresh("AAPL", nextKey -> {
+            Thread other = new Thread(() -> concurrentResult.add(minuteBarBuffer.refresh("AAPL",
+                    key -> new MinuteBarPage(getCandles(119, 121), false, "key"))));
+            other.start();
+            try {
+                other.join(5_000L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new MinuteBarPage(getCandles(119, 122), false, "key");
+        });
+
+        //then
+        assertEquals(1, concurrentResult.size());
+        assertEquals(121, concurrentResult.get(0).getCandles().size());
+    }
+
+    @Test
+    @DisplayName("1분봉으로 100개를 만들 수 있는 분 단위만 버퍼에서 응답")
+    void should_CoverOnlyNarrowIntervals_When_MaxBarsLimited() {
+        //expected
+        assertTrue(minuteBarBuffer.covers(1));
+        assertTrue(minuteBarBuffer.covers(12));
+        assertFalse(minuteBarBuffer.covers(15));
+        assertFalse(minuteBarBuffer.covers(60));
+    }
+}
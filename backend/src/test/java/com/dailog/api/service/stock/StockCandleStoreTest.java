@@ -0,0 +1,183 @@
+package com.dailog.api.service.stock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dailog.api.domain.StockCandleRange;
+import com.dailog.api.repository.stock.StockCandleRangeRepository;
+import com.dailog.api.repository.stock.StockCandleRepository;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class StockCandleStoreTest {
+
+    private static final LocalDate LAST_DATE = LocalDate.of(2024, 6, 28);
+
+    @Autowired
+    private StockCandleStore stockCandleStore;
+    @Autowired
+    private StockCandleRepository stockCandleRepository;
+    @Autowired
+    private StockCandleRangeRepository stockCandleRangeRepository;
+
+    @BeforeEach
+    void clean() {
+        stockCandleRepository.deleteAll();
+        stockCandleRangeRepository.deleteAll();
+    }
+
+    //LAST_DATE부터 하루씩 과거로 count개
+    private List<Candle> getCandles(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Candle(LAST_DATE.minusDays(i).format(DateTimeFormatter.BASIC_ISO_DATE),
+                        100.0, 102.0, 99.0, 101.5, 1.5, 1.5, 1000L + i))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("저장된 구간 안의 기준일은 저장소에서 조회")
+    void should_ReturnStoredCandles_When_RangeCovered() {
+        //given
+        stockCandleStore.save("AAPL", "0", getCandles(100), LAST_DATE.plusDays(1));
+
+        //when
+        Optional<List<Candle>> storedCandles = stockCandleStore.find("AAPL", "0", LAST_DATE);
+
+        //then
+        assertTrue(storedCandles.isPresent());
+        assertEquals(100, storedCandles.get().size());
+        assertEquals("20240628", storedCandles.get().get(0).date());
+        assertEquals(101.5, storedCandles.get().get(0).close());
+        assertEquals(1.5, storedCandles.get().get(0).diff());
+        assertEquals(1000L, storedCandles.get().get(0).volume());
+    }
+
+    @Test
+    @DisplayName("기준일 이전 봉이 100개보다 적게 저장되어 있으면 조회하지 않는다")
+    void should_ReturnEmpty_When_NotEnoughCandles() {
+        //given
+        stockCandleStore.save("AAPL", "0", getCandles(100), LAST_DATE.plusDays(1));
+
+        //when
+        Optional<List<Candle>> storedCandles = stockCandleStore.find("AAPL", "0", LAST_DATE.minusDays(10));
+
+        //then
+        assertTrue(storedCandles.isEmpty());
+    }
+
+    @Test
+    @DisplayName("마감되지 않은 봉은 저장하지 않는다")
+    void should_SkipOpenCandle_When_Saving() {
+        //when
+        stockCandleStore.save("AAPL", "0", getCandles(100), LAST_DATE);
+
+        //then
+        assertEquals(99L, stockCandleRepository.count());
+        assertTrue(stockCandleStore.find("AAPL", "0", LAST_DATE).isEmpty());
+    }
+
+    @Test
+    @DisplayName("상장 이후 봉을 모두 받았으면 100개보다 적어도 저장소에서 조회")
+    void should_ReturnStoredCandles_When_ReachedStart() {
+        //given
+        stockCandleStore.save("NEW", "0", getCandles(3), LAST_DATE.plusDays(1));
+
+        //when
+        Optional<List<Candle>> storedCandles = stockCandleStore.find("NEW", "0", LAST_DATE);
+
+        //then
+        assertTrue(storedCandles.isPresent());
+        assertEquals(3, storedCandles.get().size());
+    }
+
+    @Test
+    @DisplayName("겹치는 구간을 다시 저장하면 새 봉만 추가")
+    void should_AppendOnlyNewCandles_When_OverlappingWindowSaved() {
+        //given
+        stockCandleStore.save("AAPL", "0", getCandles(100).subList(1, 100), LAST_DATE.plusDays(1));
+
+        //when
+        stockCandleStore.save("AAPL", "0", getCandles(100), LAST_DATE.plusDays(1));
+
+        //then
+        assertEquals(100L, stockCandleRepository.count());
+        assertTrue(stockCandleStore.find("AAPL", "0", LAST_DATE).isPresent());
+    }
+
+    @Test
+    @DisplayName("겹치는 날짜의 종가가 다르면(분할, 배당으로 수정주가 변경) 저장된 봉을 지우고 새로 받은 봉으로 교체")
+    void should_ReplaceCandles_When_AdjustedPricesChanged() {
+        //given
+        List<Candle> candles = getCandles(150);
+        stockCandleStore.save("AAPL", "0", candles.subList(50, 150), LAST_DATE.plusDays(1));
+        //2:1 분할 뒤에 받은 응답
+        List<Candle> splitCandles = candles.subList(0, 100).stream()
+                .map(candle -> new Candle(candle.date(), candle.open() / 2, candle.high() / 2, candle.low() / 2,
+                        candle.close() / 2, candle.diff() / 2, candle.rate(), candle.volume() * 2))
+                .toList();
+
+        //when
+        stockCandleStore.save("AAPL", "0", splitCandles, LAST_DATE.plusDays(1));
+
+        //then
+        assertEquals(100L, stockCandleRepository.count());
+        StockCandleRange range = stockCandleRangeRepository.findByTickerAndPeriodType("AAPL", "0").get();
+        assertEquals(LAST_DATE.minusDays(99), range.getFromDate());
+        assertEquals(LAST_DATE, range.getToDate());
+        Optional<List<Candle>> storedCandles = stockCandleStore.find("AAPL", "0", LAST_DATE);
+        assertTrue(storedCandles.isPresent());
+        assertTrue(storedCandles.get().stream().allMatch(candle -> candle.close() == 50.75));
+    }
+
+    @Test
+    @DisplayName("최신 봉을 저장하면 기간이 바뀔 때까지 증권사 API 없이 최신 100개를 조회")
+    void should_ReturnLatestCandles_When_SavedAsLatest() {
+        //given
+        stockCandleStore.saveLatest("AAPL", "0", getCandles(101), LAST_DATE);
+
+        //when
+        Optional<List<Candle>> latestCandles = stockCandleStore.findLatest("AAPL", "0", LAST_DATE);
+
+        //then
+        assertTrue(latestCandles.isPresent());
+        assertEquals(100, latestCandles.get().size());
+        assertEquals("20240627", latestCandles.get().get(0).date());
+        assertTrue(stockCandleStore.findLatest("AAPL", "0", LAST_DATE.plusDays(1)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("기준일로 조회한 봉만 저장되어 있으면 최신 봉으로 조회하지 않는다")
+    void should_ReturnEmpty_When_LatestNotSaved() {
+        //given
+        stockCandleStore.save("AAPL", "0", getCandles(100), LAST_DATE.plusDays(1));
+
+        //expected
+        assertTrue(stockCandleStore.findLatest("AAPL", "0", LAST_DATE.plusDays(1)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("최신 봉이 기존 구간과 이어지지 않으면 최신 구간으로 교체")
+    void should_ResetRange_When_LatestDoesNotOverlap() {
+        //given
+        List<Candle> candles = getCandles(300);
+        stockCandleStore.save("AAPL", "0", candles.subList(200, 300), LAST_DATE.plusDays(1));
+
+        //when
+        stockCandleStore.saveLatest("AAPL", "0", candles.subList(0, 100), LAST_DATE.plusDays(1));
+
+        //then
+        StockCandleRange range = stockCandleRangeRepository.findByTickerAndPeriodType("AAPL", "0").get();
+        assertEquals(LAST_DATE.minusDays(99), range.getFromDate());
+        assertEquals(LAST_DATE, range.getToDate());
+        assertTrue(stockCandleStore.findLatest("AAPL", "0", LAST_DATE.plusDays(1)).isPresent());
+    }
+}
@@ -0,0 +1,101 @@
+package com.dailog.api.service.stock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.dailog.api.exception.InvalidRequest;
+import com.dailog.api.exception.stock.StockNotFound;
+import com.dailog.api.response.stock.StockDetail;
+import com.dailog.api.response.stock.StockQuoteResult;
+import com.dailog.api.service.StockService;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StockQuoteBatchTest {
+
+    private final StockService stockService = mock(StockService.class);
+
+    @Test
+    @DisplayName("실패한 종목은 오류로 담고 나머지 종목은 요청 순서대로 응답")
+    void should_ReturnPartialResults_When_SomeTickersFail() throws Exception {
+        //given
+        StockQuoteBatch stockQuoteBatch = new StockQuoteBatch(stockService, Runnable::run, 50, 4);
+        when(stockService.getStockDetail("AAPL")).thenReturn(StockDetail.builder().last("210.62").build());
+        when(stockService.getStockDetail("NOPE")).thenThrow(new StockNotFound());
+        when(stockService.getStockDetail("MSFT")).thenReturn(StockDetail.builder().last("452.85").build());
+
+        //when
+        List<StockQuoteResult> results = stockQuoteBatch.getQuotes(List.of("aapl", "NOPE", "MSFT")).get();
+
+        //then
+        assertEquals(List.of("AAPL", "NOPE", "MSFT"), results.stream().map(StockQuoteResult::getTicker).toList());
+        assertEquals("210.62", results.get(0).getDetail().getLast());
+        assertNull(results.get(1).getDetail());
+        assertEquals("404", results.get(1).getError().getCode());
+        assertEquals("452.85", results.get(2).getDetail().getLast());
+    }
+
+    @Test
+    @DisplayName("동시에 조회하는 종목 수는 concurrency를 넘지 않는다")
+    void should_LimitConcurrency_When_ManyTickers() throws Exception {
+        //given
+        ExecutorService executorService = Executors.newFixedThreadPool(10);
+        StockQuoteBatch stockQuoteBatch = new StockQuoteBatch(stockService, executorService, 50, 2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(stockService.getStockDetail(anyString())).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20L);
+            running.decrementAndGet();
+            return StockDetail.builder().build();
+        });
+
+        //when
+        List<StockQuoteResult> results = stockQuoteBatch
+                .getQuotes(List.of("A", "B", "C", "D", "E", "F", "G", "H"))
+                .get(5L, TimeUnit.SECONDS);
+
+        //then
+        assertEquals(8, results.size());
+        assertTrue(maxRunning.get() <= 2);
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("중복된 종목은 한 번만 조회")
+    void should_LoadOnce_When_DuplicatedTickers() throws Exception {
+        //given
+        StockQuoteBatch stockQuoteBatch = new StockQuoteBatch(stockService, Runnable::run, 50, 4);
+        when(stockService.getStockDetail("AAPL")).thenReturn(StockDetail.builder().build());
+
+        //when
+        List<StockQuoteResult> results = stockQuoteBatch.getQuotes(List.of("AAPL", "aapl", " AAPL ")).get();
+
+        //then
+        assertEquals(1, results.size());
+        verify(stockService, times(1)).getStockDetail("AAPL");
+    }
+
+    @Test
+    @DisplayName("최대 종목 수를 넘으면 InvalidRequest")
+    void should_ThrowInvalidRequest_When_TooManyTickers() {
+        //given
+        StockQuoteBatch stockQuoteBatch = new StockQuoteBatch(stockService, Runnable::run, 2, 4);
+
+        //expected
+        assertThrows(InvalidRequest.class, () -> stockQuoteBatch.getQuotes(List.of("A", "B", "C")));
+        assertThrows(InvalidRequest.class, () -> stockQuoteBatch.getQuotes(List.of(" ")));
+    }
+}
@@ -0,0 +1,153 @@
+package com.dailog.api.service.stock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dailog.api.exception.stock.StockUnavailable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StockQuoteCacheTest {
+
+    private static final Duration TTL = Duration.ofSeconds(5L);
+
+    private final MutableClock clock = new MutableClock();
+    private final StockQuoteCache stockQuoteCache = new StockQuoteCache(100L, Runnable::run, clock,
+            Duration.ofDays(1L), new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("TTL 안에서는 캐시된 값을 반환")
+    void should_ReturnCachedValue_When_Fresh() {
+        //given
+        AtomicInteger calls = new AtomicInteger();
+
+        //when
+        stockQuoteCache.get("detail:AAPL", TTL, calls::incrementAndGet);
+        clock.advance(Duration.ofSeconds(4L));
+        Integer value = stockQuoteCache.get("detail:AAPL", TTL, calls::incrementAndGet);
+
+        //then
+        assertEquals(1, value);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 기존 값을 반환하고 백그라운드에서 갱신")
+    void should_ReturnStaleValueAndRefresh_When_Expired() {
+        //given
+        AtomicInteger calls = new AtomicInteger();
+        stockQuoteCache.get("detail:AAPL", TTL, calls::incrementAndGet);
+        clock.advance(Duration.ofSeconds(6L));
+
+        //when
+        Integer staleValue = stockQuoteCache.get("detail:AAPL", TTL, calls::incrementAndGet);
+        Integer refreshedValue = stockQuoteCache.get("detail:AAPL", TTL, calls::incrementAndGet);
+
+        //then
+        assertEquals(1, staleValue);
+        assertEquals(2, refreshedValue);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    @DisplayName("갱신 스레드 풀의 대기열이 가득 차면 이번 갱신은 건너뛰고 다음 요청에서 다시 시도")
+    void should_RetryRefresh_When_RefreshRejected() {
+        //given
+        AtomicInteger submits = new AtomicInteger();
+        StockQuoteCache rejectingCache = new StockQuoteCache(100L, task -> {
+            if (submits.incrementAndGet() == 1) {
+                throw new RejectedExecutionException("queue full");
+            }
+            task.run();
+        }, clock, Duration.ofDays(1L), new SimpleMeterRegistry());
+        AtomicInteger calls = new AtomicInteger();
+        rejectingCache.get("detail:AAPL", TTL, calls::incrementAndGet);
+        clock.advance(Duration.ofSeconds(6L));
+
+        //when
+        Integer rejectedValue = rejectingCache.get("detail:AAPL", TTL, calls::incrementAndGet);
+        Integer retriedValue = rejectingCache.get("detail:AAPL", TTL, calls::incrementAndGet);
+        Integer refreshedValue = rejectingCache.get("detail:AAPL", TTL, calls::incrementAndGet);
+
+        //then
+        assertEquals(1, rejectedValue);
+        assertEquals(1, retriedValue);
+        assertEquals(2, refreshedValue);
+        assertEquals(2, submits.get());
+    }
+
+    @Test
+    @DisplayName("stale 구간이 지나면 새로 조회")
+    void should_LoadNewValue_When_StaleWindowPassed() {
+        //given
+        AtomicInteger calls = new AtomicInteger();
+        stockQuoteCache.get("detail:AAPL", TTL, calls::incrementAndGet);
+        clock.advance(Duration.ofMinutes(2L));
+
+        //when
+        Integer value = stockQuoteCache.get("detail:AAPL", TTL, calls::incrementAndGet);
+
+        //then
+        assertEquals(2, value);
+    }
+
+    @Test
+    @DisplayName("stale 구간이 지난 뒤 증권사 API가 실패하면 마지막으로 성공한 값을 반환하고 표시")
+    void should_ReturnLastKnownGood_When_LoadFailsAfterStaleWindow() {
+        //given
+        stockQuoteCache.get("detail:AAPL", TTL, () -> 1);
+        clock.advance(Duration.ofMinutes(2L));
+
+        //when
+        StaleData.Result<Integer> result = StaleData.capture(() -> stockQuoteCache.get("detail:AAPL", TTL, () -> {
+            throw new StockUnavailable();
+        }));
+
+        //then
+        assertEquals(1, result.value());
+        assertTrue(result.isStale());
+        assertEquals(Instant.parse("2024-07-01T14:00:00Z"), result.loadedAt());
+    }
+
+    @Test
+    @DisplayName("마지막으로 성공한 값이 없으면 예외를 그대로 전달")
+    void should_ThrowException_When_NoLastKnownGood() {
+        //expected
+        assertThrows(StockUnavailable.class, () -> stockQuoteCache.get("detail:AAPL", TTL, () -> {
+            throw new StockUnavailable();
+        }));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2024-07-01T14:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package com.dailog.api.service.stock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.dailog.api.exception.stock.StockRateLimited;
+import com.dailog.api.response.stock.StockDetail;
+import com.dailog.api.service.StockService;
+import com.dailog.api.util.StockSymbolRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class StockQuoteStreamerTest {
+
+    private static final long SEND_TIMEOUT_MILLIS = 10_000L;
+    private static final int MAX_TICKERS = 2;
+    private static final int MAX_SUBSCRIBERS = 3;
+
+    private final StockService stockService = mock(StockService.class);
+    private final StockSymbolRegistry stockSymbolRegistry = mock(StockSymbolRegistry.class);
+    private final TaskScheduler taskScheduler = mock(TaskScheduler.class);
+    private final Queue<Runnable> sendTasks = new ArrayDeque<>();
+    private final List<Runnable> pollTicks = new ArrayList<>();
+    private final List<ScheduledFuture<?>> pollers = new ArrayList<>();
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+    private final MutableClock clock = new MutableClock();
+
+    private StockQuoteStreamer stockQuoteStreamer;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            pollTicks.add(invocation.getArgument(0));
+            ScheduledFuture<?> poller = mock(ScheduledFuture.class);
+            pollers.add(poller);
+            return poller;
+        }).when(taskScheduler).scheduleWithFixedDelay(any(Runnable.class), any(Duration.class));
+
+        stockQuoteStreamer = new StockQuoteStreamer(stockService, stockSymbolRegistry, Runnable::run, sendTasks::add,
+                taskScheduler, clock, new SimpleMeterRegistry(), Duration.ofSeconds(2L), 60_000L,
+                SEND_TIMEOUT_MILLIS, MAX_TICKERS, MAX_SUBSCRIBERS) {
+
+            @Override
+            SseEmitter createEmitter(long timeoutMillis) {
+                RecordingEmitter emitter = new RecordingEmitter(timeoutMillis);
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("같은 종목을 여러 명이 구독해도 조회 작업은 하나")
+    void should_ShareOnePoller_When_SameTickerSubscribedTwice() {
+        //when
+        stockQuoteStreamer.subscribe("AAPL");
+        stockQuoteStreamer.subscribe("AAPL");
+        stockQuoteStreamer.subscribe("MSFT");
+
+        //then
+        verify(taskScheduler, times(2)).scheduleWithFixedDelay(any(Runnable.class), any(Duration.class));
+        assertEquals(3, stockQuoteStreamer.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("마지막 구독자가 나가면 조회 작업을 멈추고, 다시 구독하면 새로 시작")
+    void should_StopPoller_When_LastSubscriberLeaves() {
+        //given
+        stockQuoteStreamer.subscribe("AAPL");
+        stockQuoteStreamer.subscribe("AAPL");
+
+        //when
+        emitters.get(0).fireCompletion();
+
+        //then
+        verify(pollers.get(0), never()).cancel(false);
+        assertEquals(1, stockQuoteStreamer.getSubscriberCount());
+
+        //when
+        emitters.get(1).fireError(new IOException("Broken pipe"));
+
+        //then
+        verify(pollers.get(0)).cancel(false);
+        assertEquals(0, stockQuoteStreamer.getSubscriberCount());
+
+        //when
+        stockQuoteStreamer.subscribe("AAPL");
+
+        //then
+        assertEquals(2, pollers.size());
+        assertEquals(1, stockQuoteStreamer.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("전송이 밀린 구독자에게는 중간 값을 건너뛰고 최신 현재가만 전송")
+    void should_SendOnlyLatestQuote_When_SendIsBehind() {
+        //given
+        StockDetail first = StockDetail.builder().last("210.00").build();
+        StockDetail second = StockDetail.builder().last("210.50").build();
+        StockDetail third = StockDetail.builder().last("211.00").build();
+        when(stockService.getStockDetail("AAPL")).thenReturn(first, second, third);
+        stockQuoteStreamer.subscribe("AAPL");
+
+        //when
+        pollTicks.get(0).run();
+        pollTicks.get(0).run();
+        pollTicks.get(0).run();
+        runSendTasks();
+
+        //then
+        assertEquals(List.of(third), emitters.get(0).sent);
+    }
+
+    @Test
+    @DisplayName("새 구독자에게는 마지막으로 조회된 현재가를 바로 전송")
+    void should_SendLastQuote_When_Subscribed() {
+        //given
+        StockDetail quote = StockDetail.builder().last("210.62").build();
+        when(stockService.getStockDetail("AAPL")).thenReturn(quote);
+        stockQuoteStreamer.subscribe("AAPL");
+        pollTicks.get(0).run();
+        runSendTasks();
+
+        //when
+        stockQuoteStreamer.subscribe("AAPL");
+        runSendTasks();
+
+        //then
+        assertEquals(List.of(quote), emitters.get(1).sent);
+    }
+
+    @Test
+    @DisplayName("전송이 send-timeout보다 오래 막힌 구독자는 목록에서 제외")
+    void should_DropSubscriber_When_SendStaysBlocked() {
+        //given
+        when(stockService.getStockDetail("AAPL")).thenReturn(
+                StockDetail.builder().last("210.00").build(),
+                StockDetail.builder().last("210.50").build());
+        stockQuoteStreamer.subscribe("AAPL");
+        //전송 도중에 시간이 지나고 다음 조회 주기가 돌아온다.
+        emitters.get(0).onSend = quote -> {
+            clock.advance(Duration.ofMillis(SEND_TIMEOUT_MILLIS + 1L));
+            pollTicks.get(0).run();
+        };
+
+        //when
+        pollTicks.get(0).run();
+        runSendTasks();
+
+        //then
+        assertEquals(0, stockQuoteStreamer.getSubscriberCount());
+        verify(pollers.get(0)).cancel(false);
+    }
+
+    @Test
+    @DisplayName("스트리밍 종목 수가 max-tickers에 이르면 새 종목 구독은 조회 작업을 만들지 않고 429로 거절")
+    void should_RejectNewTicker_When_MaxTickersReached() {
+        //given
+        stockQuoteStreamer.subscribe("AAPL");
+        stockQuoteStreamer.subscribe("MSFT");
+
+        //expected
+        assertThrows(StockRateLimited.class, () -> stockQuoteStreamer.subscribe("NVDA"));
+        verify(taskScheduler, times(2)).scheduleWithFixedDelay(any(Runnable.class), any(Duration.class));
+        assertEquals(2, stockQuoteStreamer.getSubscriberCount());
+
+        //이미 스트리밍 중인 종목은 구독 가능
+        stockQuoteStreamer.subscribe("AAPL");
+        assertEquals(3, stockQuoteStreamer.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("구독자 수가 max-subscribers에 이르면 429로 거절하고, 구독자가 나가면 다시 받는다")
+    void should_RejectSubscriber_When_MaxSubscribersReached() {
+        //given
+        stockQuoteStreamer.subscribe("AAPL");
+        stockQuoteStreamer.subscribe("AAPL");
+        stockQuoteStreamer.subscribe("AAPL");
+
+        //when
+        assertThrows(StockRateLimited.class, () -> stockQuoteStreamer.subscribe("AAPL"));
+        emitters.get(0).fireCompletion();
+        stockQuoteStreamer.subscribe("AAPL");
+
+        //then
+        assertEquals(3, stockQuoteStreamer.getSubscriberCount());
+        verify(taskScheduler, times(1)).scheduleWithFixedDelay(any(Runnable.class), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("종료하면 조회 작업을 멈추고 모든 연결을 닫음")
+    void should_CancelPollersAndCompleteEmitters_When_Shutdown() {
+        //given
+        stockQuoteStreamer.subscribe("AAPL");
+        stockQuoteStreamer.subscribe("MSFT");
+
+        //when
+        stockQuoteStreamer.shutdown();
+
+        //then
+        verify(pollers.get(0)).cancel(false);
+        verify(pollers.get(1)).cancel(false);
+        assertTrue(emitters.stream().allMatch(emitter -> emitter.completed));
+    }
+
+    private void runSendTasks() {
+        Runnable task;
+        while ((task = sendTasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<Object> sent = new ArrayList<>();
+        private Consumer<Object> onSend = quote -> { };
+        private Runnable completionCallback = () -> { };
+        private Consumer<Throwable> errorCallback = e -> { };
+        private boolean completed;
+
+        RecordingEmitter(long timeoutMillis) {
+            super(timeoutMillis);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            for (DataWithMediaType data : builder.build()) {
+                if (data.getData() instanceof StockDetail quote) {
+                    onSend.accept(quote);
+                    sent.add(quote);
+                }
+            }
+        }
+
+        @Override
+        public void onCompletion(Runnable callback) {
+            this.completionCallback = callback;
+        }
+
+        @Override
+        public void onError(Consumer<Throwable> callback) {
+            this.errorCallback = callback;
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+
+        void fireCompletion() {
+            completionCallback.run();
+        }
+
+        void fireError(Throwable e) {
+            errorCallback.accept(e);
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2024-07-01T14:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.dailog.api.service.stock.indicator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.dailog.api.response.stock.IndicatorSeries;
+import com.dailog.api.service.stock.Candle;
+import com.dailog.api.service.stock.CandleSeries;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IndicatorStateTest {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2024, 1, 1);
+    private static final double DELTA = 1e-9;
+
+    //FIRST_DATE + from일부터 FIRST_DATE + to일 전까지, KIS 응답처럼 최신 -> 과거 순
+    private CandleSeries getSeries(int from, int to, double lastClose) {
+        List<Candle> candles = new ArrayList<>();
+        for (int day = to - 1; day >= from; day--) {
+            double close = day == to - 1 ? lastClose : getClose(day);
+            candles.add(new Candle(FIRST_DATE.plusDays(day).format(DateTimeFormatter.BASIC_ISO_DATE),
+                    close, close + 1.0, close - 1.0, close, 0.0, 0.0, 1000L + day));
+        }
+        return CandleSeries.daily(candles);
+    }
+
+    private double getClose(int day) {
+        return 100.0 + (day * 7 % 11) - day * 0.3;
+    }
+
+    private double getSimpleAverage(List<Candle> candles, int index, int window) {
+        double sum = 0.0;
+        for (int i = index; i < index + window; i++) {
+            sum += candles.get(i).close();
+        }
+        return sum / window;
+    }
+
+    @Test
+    @DisplayName("이동평균은 window만큼 쌓인 봉부터 최신 -> 과거 순으로 계산")
+    void should_MatchFullRecompute_When_SimpleMovingAverage() {
+        //given
+        IndicatorState state = new IndicatorState(IndicatorType.SMA, 5);
+        CandleSeries series = getSeries(0, 30, getClose(29));
+
+        //when
+        IndicatorSeries result = state.update(series);
+
+        //then
+        List<Candle> candles = series.getCandles();
+        assertEquals(26, result.getDates().size());
+        assertNull(result.getUpper());
+        for (int i = 0; i < 26; i++) {
+            assertEquals(candles.get(i).date(), result.getDates().get(i));
+            assertEquals(getSimpleAverage(candles, i, 5), result.getValues()[i], DELTA);
+        }
+    }
+
+    @Test
+    @DisplayName("새로 받은 봉만 반영해도 이전 봉부터 전체를 다시 계산한 것과 같다")
+    void should_MatchFullRecompute_When_UpdatedIncrementally() {
+        //given
+        IndicatorState state = new IndicatorState(IndicatorType.SMA, 5);
+        state.update(getSeries(0, 30, getClose(29)));
+
+        //when
+        CandleSeries series = getSeries(3, 35, getClose(34));
+        IndicatorSeries result = state.update(series);
+
+        //then
+        IndicatorSeries expected = new IndicatorState(IndicatorType.SMA, 5).update(getSeries(0, 35, getClose(34)));
+        assertEquals(expected.getDates(), result.getDates());
+        assertArrayEquals(expected.getValues(), result.getValues(), DELTA);
+    }
+
+    @Test
+    @DisplayName("마감되지 않은 최신 봉은 지표 상태에 반영하지 않는다")
+    void should_NotCommitNewestCandle_When_Updated() {
+        //given
+        IndicatorState state = new IndicatorState(IndicatorType.EMA, 5);
+        state.update(getSeries(0, 30, 500.0));
+
+        //when
+        CandleSeries series = getSeries(0, 31, getClose(30));
+        IndicatorSeries result = state.update(series);
+
+        //then
+        IndicatorSeries expected = new IndicatorState(IndicatorType.EMA, 5).update(series);
+        assertEquals(expected.getDates(), result.getDates());
+        assertArrayEquals(expected.getValues(), result.getValues(), DELTA);
+    }
+
+    @Test
+    @DisplayName("같은 봉 목록으로 다시 요청하면 이전 결과를 반환")
+    void should_ReturnSameResult_When_SameSeries() {
+        //given
+        IndicatorState state = new IndicatorState(IndicatorType.RSI, 14);
+        CandleSeries series = getSeries(0, 30, getClose(29));
+
+        //when
+        IndicatorSeries first = state.update(series);
+        IndicatorSeries second = state.update(series);
+
+        //then
+        assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("종가가 계속 오르면 RSI는 100")
+    void should_Return100_When_OnlyGains() {
+        //given
+        List<Candle> candles = new ArrayList<>();
+        for (int day = 19; day >= 0; day--) {
+            candles.add(new Candle(FIRST_DATE.plusDays(day).format(DateTimeFormatter.BASIC_ISO_DATE),
+                    100.0, 100.0 + day, 100.0, 100.0 + day, 1.0, 1.0, 1000L));
+        }
+
+        //when
+        IndicatorSeries result = new IndicatorState(IndicatorType.RSI, 14).update(CandleSeries.daily(candles));
+
+        //then
+        assertEquals(6, result.getDates().size());
+        for (double value : result.getValues()) {
+            assertEquals(100.0, value, DELTA);
+        }
+    }
+
+    @Test
+    @DisplayName("볼린저 밴드는 중심선에서 표준편차의 2배만큼 떨어진 상단/하단을 함께 반환")
+    void should_ReturnBands_When_Bollinger() {
+        //given
+        IndicatorState state = new IndicatorState(IndicatorType.BOLLINGER, 20);
+        CandleSeries series = getSeries(0, 30, getClose(29));
+
+        //when
+        IndicatorSeries result = state.update(series);
+
+        //then
+        List<Candle> candles = series.getCandles();
+        double mean = getSimpleAverage(candles, 0, 20);
+        double variance = 0.0;
+        for (int i = 0; i < 20; i++) {
+            variance += Math.pow(candles.get(i).close() - mean, 2) / 20;
+        }
+        assertEquals(mean, result.getValues()[0], DELTA);
+        assertEquals(mean + 2 * Math.sqrt(variance), result.getUpper()[0], 1e-6);
+        assertEquals(mean - 2 * Math.sqrt(variance), result.getLower()[0], 1e-6);
+    }
+}
@@ -0,0 +1,102 @@
+package com.dailog.api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JWTUtilTest {
+
+    private final String encodedKey = createKey();
+    private final JWTUtil jwtUtil = new JWTUtil(encodedKey, 100);
+
+    private static String createKey() {
+        try {
+            return JWTUtil.createEncodedKey();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    @DisplayName("서명을 검증하고 claim을 반환")
+    void should_ReturnClaims_When_ValidToken() {
+        //given
+        String token = jwtUtil.createJwt("access", "test@test.com", "ROLE_MEMBER", 600000L, false, null);
+
+        //when
+        JWTClaims claims = jwtUtil.parse(token);
+
+        //then
+        assertEquals("access", claims.getCategory());
+        assertEquals("test@test.com", claims.getUsername());
+        assertEquals("ROLE_MEMBER", claims.getRole());
+        assertFalse(claims.getOAuth2Login());
+    }
+
+    @Test
+    @DisplayName("같은 토큰을 다시 파싱하면 캐시된 claim을 반환")
+    void should_ReturnCachedClaims_When_ParsedAgain() {
+        //given
+        String token = jwtUtil.createJwt("access", "test@test.com", "ROLE_MEMBER", 600000L, false, null);
+        JWTClaims first = jwtUtil.parse(token);
+
+        //when
+        JWTClaims second = jwtUtil.parse(token);
+
+        //then
+        assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("캐시 크기가 0이면 매번 서명을 검증")
+    void should_VerifyEveryTime_When_CacheDisabled() {
+        //given
+        JWTUtil uncachedJwtUtil = new JWTUtil(encodedKey, 0);
+        String token = uncachedJwtUtil.createJwt("access", "test@test.com", "ROLE_MEMBER", 600000L, false, null);
+
+        //expected
+        assertNotSame(uncachedJwtUtil.parse(token), uncachedJwtUtil.parse(token));
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 ExpiredJwtException")
+    void should_ThrowExpiredJwtException_When_TokenExpired() {
+        //given
+        String token = jwtUtil.createJwt("access", "test@test.com", "ROLE_MEMBER", -1000L, false, null);
+
+        //expected
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.parse(token));
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰도 만료되면 ExpiredJwtException")
+    void should_ThrowExpiredJwtException_When_CachedTokenExpired() throws InterruptedException {
+        //given
+        String token = jwtUtil.createJwt("access", "test@test.com", "ROLE_MEMBER", 1000L, false, null);
+        jwtUtil.parse(token);
+
+        //when
+        Thread.sleep(1100L);
+
+        //then
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.parse(token));
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 캐시와 관계없이 거부")
+    void should_ThrowJwtException_When_SignedWithOtherKey() {
+        //given
+        String token = new JWTUtil(createKey(), 100)
+                .createJwt("access", "test@test.com", "ROLE_ADMIN", 600000L, false, null);
+
+        //expected
+        assertThrows(JwtException.class, () -> jwtUtil.parse(token));
+    }
+}
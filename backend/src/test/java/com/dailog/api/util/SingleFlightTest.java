@@ -0,0 +1,88 @@
+package com.dailog.api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.dailog.api.exception.InvalidRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<String> singleFlight = new SingleFlight<>("test", meterRegistry);
+
+    @Test
+    @DisplayName("동시에 들어온 같은 키의 요청은 한 번만 호출")
+    void should_CallOnce_When_ConcurrentRequestsWithSameKey() throws Exception {
+        //given
+        int threadCount = 10;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        //when
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executorService.submit(() -> singleFlight.execute("detail:AAPL", () -> {
+                await(release);
+                return calls.incrementAndGet();
+            })));
+        }
+        while (meterRegistry.counter("single_flight.calls", "name", "test", "result", "coalesced").count()
+                < threadCount - 1) {
+            Thread.sleep(10L);
+        }
+        release.countDown();
+
+        //then
+        for (Future<Integer> future : futures) {
+            assertEquals(1, future.get(5L, TimeUnit.SECONDS));
+        }
+        assertEquals(1, calls.get());
+        assertEquals(1.0, meterRegistry.counter("single_flight.calls", "name", "test", "result", "issued").count());
+        assertEquals(0, singleFlight.inFlightCount());
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("호출이 끝난 뒤의 요청은 다시 호출")
+    void should_CallAgain_When_PreviousCallFinished() {
+        //given
+        AtomicInteger calls = new AtomicInteger();
+
+        //when
+        singleFlight.execute("detail:AAPL", calls::incrementAndGet);
+        Integer result = singleFlight.execute("detail:AAPL", calls::incrementAndGet);
+
+        //then
+        assertEquals(2, result);
+    }
+
+    @Test
+    @DisplayName("호출 중 발생한 예외는 그대로 전달")
+    void should_PropagateException_When_CallFails() {
+        //expected
+        assertThrows(InvalidRequest.class, () -> singleFlight.execute("detail:AAPL", () -> {
+            throw new InvalidRequest();
+        }));
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5L, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
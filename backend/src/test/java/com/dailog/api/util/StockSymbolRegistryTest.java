@@ -0,0 +1,76 @@
+package com.dailog.api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dailog.api.exception.stock.StockNotFound;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class StockSymbolRegistryTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @DisplayName("기본 종목 파일 로드 후 거래소 코드 조회")
+    void should_ReturnExchange_When_TickerExists() {
+        //given
+        StockSymbolRegistry registry = new StockSymbolRegistry("");
+
+        //expected
+        assertEquals("NAS", registry.getExchangeByTicker("AAPL"));
+        assertEquals("NYS", registry.getExchangeByTicker("A"));
+        assertTrue(registry.find("Symbol").isEmpty());
+    }
+
+    @Test
+    @DisplayName("없는 티커 조회 시 StockNotFound")
+    void should_ThrowStockNotFound_When_TickerNotExists() {
+        //given
+        StockSymbolRegistry registry = new StockSymbolRegistry("");
+
+        //expected
+        assertThrows(StockNotFound.class, () -> registry.getExchangeByTicker("NOT-A-TICKER"));
+        assertThrows(StockNotFound.class, () -> registry.getExchangeByTicker(null));
+    }
+
+    @Test
+    @DisplayName("거래소 코드 문자열은 종목끼리 공유")
+    void should_ShareExchangeInstances_When_Loaded() {
+        //given
+        StockSymbolRegistry registry = new StockSymbolRegistry("");
+
+        //expected
+        assertSame(registry.find("AAPL").orElseThrow().exchange(), registry.find("MSFT").orElseThrow().exchange());
+    }
+
+    @Test
+    @DisplayName("지정한 종목 파일이 바뀌면 다시 로드")
+    void should_ReloadSymbols_When_OverrideFileModified() throws IOException {
+        //given
+        Path file = tempDir.resolve("stocks.csv");
+        Files.writeString(file, "Symbol,Exchange,Company Name\nAAA,NYS,FIRST COMPANY\n");
+        StockSymbolRegistry registry = new StockSymbolRegistry(file.toString());
+
+        Files.writeString(file, "Symbol,Exchange,Company Name\nAAA,NAS,FIRST COMPANY\nBBB,AMS,SECOND, COMPANY\n");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 1000L));
+
+        //when
+        registry.reloadIfModified();
+
+        //then
+        assertEquals(2, registry.size());
+        assertEquals("NAS", registry.getExchangeByTicker("AAA"));
+        List<StockSymbol> result = registry.search("BBB");
+        assertEquals("SECOND, COMPANY", result.get(0).name());
+    }
+}
@@ -0,0 +1,64 @@
+package com.dailog.api.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TickerSearchIndexTest {
+
+    private final TickerSearchIndex searchIndex = new TickerSearchIndex(
+            new String[]{"AAPL", "AAP", "AA", "A", "MSFT", "GOOGL", "GOOG", "BRK.A", "TAAP"},
+            new String[]{"APPLE INC", "ADVANCE AUTO PARTS INC", "ALCOA CORPORATION", "AGILENT TECHNOLOGIES INC",
+                    "MICROSOFT CORP", "ALPHABET INC CLASS A", "ALPHABET INC CLASS C", "BERKSHIRE HATHAWAY INC",
+                    "TAAP CORP"});
+
+    private String[] search(String keyword, int limit) {
+        return Arrays.stream(searchIndex.search(keyword, limit))
+                .mapToObj(searchIndex::getTicker)
+                .toArray(String[]::new);
+    }
+
+    @Test
+    @DisplayName("티커 검색 - 정확히 일치하는 티커가 먼저, 이후 짧은 순")
+    void should_RankExactAndShorterTickersFirst_When_PrefixMatches() {
+        //when
+        String[] result = search("AA", 5);
+
+        //then
+        assertArrayEquals(new String[]{"AA", "AAP", "AAPL", "TAAP"}, result);
+    }
+
+    @Test
+    @DisplayName("티커 검색 - 티커 접두사가 없으면 회사명 접두사로 검색")
+    void should_SearchByCompanyName_When_NoTickerPrefix() {
+        //when
+        String[] result = search("ALPHABET", 5);
+
+        //then
+        assertArrayEquals(new String[]{"GOOGL", "GOOG"}, result);
+    }
+
+    @Test
+    @DisplayName("티커 검색 - 결과 개수 제한")
+    void should_LimitResults_When_ManyMatches() {
+        //when
+        String[] result = search("A", 3);
+
+        //then
+        assertEquals(3, result.length);
+        assertArrayEquals(new String[]{"A", "AA", "AAP"}, result);
+    }
+
+    @Test
+    @DisplayName("티커 검색 - 일치하는 종목이 없으면 빈 결과")
+    void should_ReturnEmpty_When_NoMatch() {
+        //when
+        String[] result = search("ZZZ", 5);
+
+        //then
+        assertEquals(0, result.length);
+    }
+}